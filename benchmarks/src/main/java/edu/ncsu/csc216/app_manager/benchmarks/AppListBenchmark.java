@@ -0,0 +1,149 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.manager.AppList;
+
+/**
+ * Benchmarks the lookups and updates of AppList against the linear scans they replaced,
+ * so the scans are the baseline each indexed operation is compared with.
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppListBenchmark {
+
+    /** Number of applications in the list */
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    /** The list */
+    private AppList list;
+
+    /** Ids to look up, in random order */
+    private int[] ids;
+
+    /** Position of the next id to look up */
+    private int next;
+
+    /**
+     * Fills the list.
+     */
+    @Setup
+    public void setUp() {
+        list = new AppList();
+        list.addApps(Fixtures.applications(size, 1));
+        Random random = new Random(Fixtures.SEED);
+        ids = new int[1024];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = 1 + random.nextInt(size);
+        }
+    }
+
+    /**
+     * Looks up an application by id through the list's index.
+     *
+     * @return the application
+     */
+    @Benchmark
+    public Application getAppById() {
+        return list.getAppById(nextId());
+    }
+
+    /**
+     * Looks up an application by id by scanning the list, the baseline for getAppById.
+     *
+     * @return the application
+     */
+    @Benchmark
+    public Application scanById() {
+        int id = nextId();
+        for (Application app : list.getSnapshot()) {
+            if (app.getAppId() == id) {
+                return app;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds an application to the end of the list and deletes it again.
+     *
+     * @return the id of the application
+     */
+    @Benchmark
+    public int addAndDelete() {
+        int id = list.addApp(AppType.NEW, "Summary", "Note");
+        list.deleteAppById(id);
+        return id;
+    }
+
+    /**
+     * Finds the applications of a type through the attribute index.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> getAppsByType() {
+        return list.getAppsByType(Application.A_OLD);
+    }
+
+    /**
+     * Finds the applications of a type by scanning the list, the baseline for getAppsByType.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> scanByType() {
+        List<Application> found = new ArrayList<>();
+        for (Application app : list.getSnapshot()) {
+            if (Application.A_OLD.equals(app.getAppType())) {
+                found.add(app);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the applications in a state through the attribute index.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> getAppsByState() {
+        return list.getAppsByState(AppState.WAITLIST);
+    }
+
+    /**
+     * Returns the next id to look up.
+     *
+     * @return the id
+     */
+    private int nextId() {
+        next = (next + 1) & (ids.length - 1);
+        return ids[next];
+    }
+}
@@ -0,0 +1,94 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+import edu.ncsu.csc216.app_manager.model.manager.AppManager;
+
+/**
+ * Benchmarks building the rows the GUI's table shows, from the cached projection and
+ * filtered by type.
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppManagerBenchmark {
+
+    /** Number of applications in the list */
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    /** The manager */
+    private AppManager manager;
+
+    /**
+     * Loads the applications into the manager.
+     *
+     * @throws IOException if the file of applications cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        manager = load(size);
+    }
+
+    /**
+     * Returns the rows of every application.
+     *
+     * @return the rows
+     */
+    @Benchmark
+    public Object[][] getAppListAsArray() {
+        return manager.getAppListAsArray();
+    }
+
+    /**
+     * Returns the rows of the applications of one type.
+     *
+     * @return the rows
+     */
+    @Benchmark
+    public Object[][] getAppListAsArrayByAppType() {
+        return manager.getAppListAsArrayByAppType("Old");
+    }
+
+    /**
+     * Loads the given number of applications into a new list in the manager, through a
+     * file, as the GUI would.
+     *
+     * @param size the number of applications
+     * @return the manager
+     * @throws IOException if the file cannot be written
+     */
+    static AppManager load(int size) throws IOException {
+        Path file = Files.createTempFile("app-manager-benchmark", ".txt");
+        try {
+            AppWriter.streamAppsToFile(file.toString(), Fixtures.applications(size, 1));
+            AppManager manager = AppManager.getInstance();
+            manager.createNewAppList();
+            manager.loadAppsFromFile(file.toString());
+            return manager;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * Benchmarks Application.update. The legal transition paths, every way from Review to
+ * Closed that visits no state twice, are found by trying each command on the FSM itself,
+ * so the benchmark keeps covering the whole FSM if its transitions change.
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationBenchmark {
+
+    /** One command of each value, valid for any transition that accepts the value */
+    private static final Command[] COMMANDS = {
+        new Command(CommandValue.ACCEPT, "reviewer", Resolution.REVCOMPLETED, "Accepted"),
+        new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected"),
+        new Command(CommandValue.STANDBY, null, Resolution.INTCOMPLETED, "Waitlisted"),
+        new Command(CommandValue.REOPEN, null, null, "Reopened")
+    };
+
+    /** Type of the applications */
+    @Param({ "NEW", "OLD" })
+    private AppType type;
+
+    /** Every legal path from Review to Closed for the type */
+    private Command[][] paths;
+
+    /**
+     * Finds the legal paths for the type.
+     */
+    @Setup
+    public void setUp() {
+        List<Command[]> found = new ArrayList<>();
+        extend(new ArrayList<>(), EnumSet.of(AppState.REVIEW), found);
+        paths = found.toArray(new Command[0][]);
+    }
+
+    /**
+     * Runs a new application through every legal path.
+     *
+     * @param blackhole sink for the applications
+     */
+    @Benchmark
+    public void everyPath(Blackhole blackhole) {
+        for (Command[] path : paths) {
+            Application app = new Application(1, type, "Summary", "Note");
+            for (Command command : path) {
+                app.update(command);
+            }
+            blackhole.consume(app);
+        }
+    }
+
+    /**
+     * Makes a single transition, from Review to Interview.
+     *
+     * @return the application
+     */
+    @Benchmark
+    public Application singleTransition() {
+        Application app = new Application(1, type, "Summary", "Note");
+        app.update(COMMANDS[0]);
+        return app;
+    }
+
+    /**
+     * Rejects a command that is not valid in the application's state.
+     *
+     * @return the exception thrown for the command
+     */
+    @Benchmark
+    public Object invalidTransition() {
+        Application app = new Application(1, type, "Summary", "Note");
+        try {
+            app.update(COMMANDS[3]);
+            return app;
+        } catch (UnsupportedOperationException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Adds every legal way of continuing the given path to the list of paths.
+     *
+     * @param path the commands so far
+     * @param visited the states the path has been through
+     * @param found the complete paths found so far
+     */
+    private void extend(List<Command> path, Set<AppState> visited, List<Command[]> found) {
+        for (Command command : COMMANDS) {
+            Application app = replay(path);
+            try {
+                app.update(command);
+            } catch (UnsupportedOperationException e) {
+                continue;
+            }
+            AppState next = app.getState();
+            if (visited.contains(next)) {
+                continue;
+            }
+            path.add(command);
+            if (next == AppState.CLOSED) {
+                found.add(path.toArray(new Command[0]));
+            } else {
+                visited.add(next);
+                extend(path, visited, found);
+                visited.remove(next);
+            }
+            path.remove(path.size() - 1);
+        }
+    }
+
+    /**
+     * Runs a new application through the given commands.
+     *
+     * @param path the commands
+     * @return the application
+     */
+    private Application replay(List<Command> path) {
+        Application app = new Application(1, type, "Summary", "Note");
+        for (Command command : path) {
+            app.update(command);
+        }
+        return app;
+    }
+}
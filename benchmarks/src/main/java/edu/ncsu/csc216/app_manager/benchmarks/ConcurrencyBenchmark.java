@@ -0,0 +1,124 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.app_manager.model.manager.AppManager;
+
+/**
+ * Benchmarks the throughput of AppManager with several readers looking applications up
+ * while a writer moves applications between Interview and Waitlist, with and without
+ * concurrent mode. The writer cycles through every application in Interview or Waitlist,
+ * so no application collects more than a few notes per second.
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrencyBenchmark {
+
+    /** Moves an application from Interview to Waitlist */
+    private static final Command STANDBY = new Command(CommandValue.STANDBY, null, Resolution.INTCOMPLETED, "Waitlisted");
+
+    /** Moves an application from Waitlist back to Interview */
+    private static final Command REOPEN = new Command(CommandValue.REOPEN, null, null, "Reopened");
+
+    /** Number of applications in the list */
+    @Param({ "100000" })
+    private int size;
+
+    /** Whether the manager is in concurrent mode */
+    @Param({ "true", "false" })
+    private boolean concurrent;
+
+    /** The manager */
+    private AppManager manager;
+
+    /** Ids of the applications in Interview or Waitlist, which the writers cycle */
+    private int[] cycling;
+
+    /**
+     * Loads the applications.
+     *
+     * @throws IOException if the file of applications cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        AppManager.getInstance().setConcurrentMode(concurrent);
+        manager = AppManagerBenchmark.load(size);
+        List<Integer> ids = new ArrayList<>();
+        for (Application app : manager.getAppListSnapshot()) {
+            if (app.getState() == AppState.INTERVIEW || app.getState() == AppState.WAITLIST) {
+                ids.add(app.getAppId());
+            }
+        }
+        cycling = ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Per-thread source of lookups, and position of the writer in the cycling applications.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        /** Source of the ids readers look up */
+        private final Random random = new Random();
+
+        /** Position of the writer in the cycling applications */
+        private int next;
+    }
+
+    /**
+     * Looks up a random application.
+     *
+     * @param cursor the thread's cursor
+     * @return the application
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Application read(Cursor cursor) {
+        return manager.getAppById(1 + cursor.random.nextInt(size));
+    }
+
+    /**
+     * Moves the writer's next application to its other state.
+     *
+     * @param cursor the thread's cursor
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void write(Cursor cursor) {
+        int id = cycling[cursor.next];
+        cursor.next = (cursor.next + 1) % cycling.length;
+        Application app = manager.getAppById(id);
+        manager.executeCommand(id, app.getState() == AppState.INTERVIEW ? STANDBY : REOPEN);
+    }
+}
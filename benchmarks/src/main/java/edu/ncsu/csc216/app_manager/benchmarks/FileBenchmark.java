@@ -0,0 +1,156 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.io.AppReader;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+
+/**
+ * Benchmarks each way AppReader reads and AppWriter writes a file. The files are written
+ * once per trial into a temporary directory. The largest sizes need a heap of several
+ * gigabytes, given with -jvmArgsAppend -Xmx16g, or can be left out with -p records=...
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class FileBenchmark {
+
+    /** Number of applications in the file */
+    @Param({ "10000", "100000", "1000000", "10000000" })
+    private int records;
+
+    /** Number of notes of each application */
+    @Param({ "3" })
+    private int notes;
+
+    /** Directory holding the files */
+    private Path directory;
+
+    /** The applications written */
+    private List<Application> apps;
+
+    /** The applications as a text file */
+    private String textFile;
+
+    /** The applications as a binary file */
+    private String binaryFile;
+
+    /** File the write benchmarks write to */
+    private String outFile;
+
+    /**
+     * Writes the files to read.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("app-manager-benchmark");
+        apps = Fixtures.applications(records, notes);
+        textFile = directory.resolve("apps.txt").toString();
+        binaryFile = directory.resolve("apps.bin").toString();
+        outFile = directory.resolve("out").toString();
+        AppWriter.streamAppsToFile(textFile, apps);
+        AppWriter.writeAppsToBinaryFile(binaryFile, apps);
+    }
+
+    /**
+     * Deletes the files.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        for (String file : new String[] { textFile, binaryFile, outFile }) {
+            Files.deleteIfExists(Path.of(file));
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Reads the text file through a stream.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> readAppsFromFile() {
+        return AppReader.readAppsFromFile(textFile);
+    }
+
+    /**
+     * Reads the text file through a memory mapping.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> readAppsFromMappedFile() {
+        return AppReader.readAppsFromMappedFile(textFile);
+    }
+
+    /**
+     * Reads the text file in chunks on the common pool.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> readAppsFromFileInParallel() {
+        return AppReader.readAppsFromFileInParallel(textFile);
+    }
+
+    /**
+     * Reads the binary file.
+     *
+     * @return the applications
+     */
+    @Benchmark
+    public List<Application> readAppsFromBinaryFile() {
+        return AppReader.readAppsFromBinaryFile(binaryFile);
+    }
+
+    /**
+     * Writes the applications as text through a Writer.
+     */
+    @Benchmark
+    public void writeAppsToFile() {
+        AppWriter.writeAppsToFile(outFile, apps);
+    }
+
+    /**
+     * Streams the applications as text through a temporary file.
+     */
+    @Benchmark
+    public void streamAppsToFile() {
+        AppWriter.streamAppsToFile(outFile, apps);
+    }
+
+    /**
+     * Writes the applications as a binary file.
+     */
+    @Benchmark
+    public void writeAppsToBinaryFile() {
+        AppWriter.writeAppsToBinaryFile(outFile, apps);
+    }
+}
@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.util.List;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.io.AppFileGenerator;
+
+/**
+ * Builds the applications the benchmarks run against with AppFileGenerator, spread evenly
+ * over every state and both types, from a fixed seed so every benchmark starts from the
+ * same, repeatable data.
+ *
+ * @author Praneel Magapu
+ */
+final class Fixtures {
+
+    /** Seed of the random numbers, so every run sees the same applications */
+    static final long SEED = 42;
+
+    /** Number of distinct reviewers */
+    static final int REVIEWERS = 200;
+
+    /**
+     * Prevents instantiation.
+     */
+    private Fixtures() {
+        // Only static members
+    }
+
+    /**
+     * Builds applications with ids 1 to count.
+     *
+     * @param count the number of applications
+     * @param notes the smallest number of notes of each application
+     * @return the applications, in id order
+     */
+    static List<Application> applications(int count, int notes) {
+        AppFileGenerator generator = new AppFileGenerator(SEED);
+        generator.setRecords(count);
+        generator.setNotesPerRecord(notes);
+        generator.setReviewers(REVIEWERS);
+        return generator.generateApps();
+    }
+}
@@ -0,0 +1,56 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.util.List;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Measures the heap retained per application, which JMH does not report. Run with the
+ * number of applications and of notes per application as arguments, for example
+ * java -cp benchmarks.jar edu.ncsu.csc216.app_manager.benchmarks.HeapFootprint 1000000 4
+ *
+ * @author Praneel Magapu
+ */
+public final class HeapFootprint {
+
+    /**
+     * Prevents instantiation.
+     */
+    private HeapFootprint() {
+        // Only main
+    }
+
+    /**
+     * Builds the applications and prints the heap they retain.
+     *
+     * @param args the number of applications and the number of notes of each, 1000000 and 4 if not given
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int notes = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long before = usedHeap();
+        List<Application> apps = Fixtures.applications(count, notes);
+        long after = usedHeap();
+        System.out.printf("%d applications with %d notes: %d bytes, %.1f bytes per application%n",
+                apps.size(), notes, after - before, (after - before) / (double) apps.size());
+    }
+
+    /**
+     * Returns the heap in use after collecting garbage until it stops shrinking.
+     *
+     * @return the bytes in use
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,123 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.app_manager.model.manager.AppManager;
+import edu.ncsu.csc216.app_manager.model.metrics.LatencyHistogram;
+
+/**
+ * Measures the overhead of AppManagerMetrics by running the same AppManager operations
+ * with the metrics enabled and disabled, along with the cost of recording one latency.
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    /** Moves an application from Interview to Waitlist */
+    private static final Command STANDBY = new Command(CommandValue.STANDBY, null, Resolution.INTCOMPLETED, "Waitlisted");
+
+    /** Moves an application from Waitlist back to Interview */
+    private static final Command REOPEN = new Command(CommandValue.REOPEN, null, null, "Reopened");
+
+    /** Whether the metrics are recorded */
+    @Param({ "false", "true" })
+    private boolean enabled;
+
+    /** The manager */
+    private AppManager manager;
+
+    /** Ids of the applications in Interview or Waitlist, which executeCommand cycles */
+    private int[] cycling;
+
+    /** Position in the cycling applications */
+    private int next;
+
+    /** Histogram recorded into directly */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Loads the applications and switches the metrics on or off.
+     *
+     * @throws IOException if the file of applications cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        manager = AppManagerBenchmark.load(100000);
+        List<Integer> ids = new ArrayList<>();
+        for (Application app : manager.getAppListSnapshot()) {
+            if (app.getState() == AppState.INTERVIEW || app.getState() == AppState.WAITLIST) {
+                ids.add(app.getAppId());
+            }
+        }
+        cycling = ids.stream().mapToInt(Integer::intValue).toArray();
+        if (enabled) {
+            manager.enableMetrics();
+        } else {
+            manager.disableMetrics();
+        }
+    }
+
+    /**
+     * Switches the metrics off again.
+     */
+    @TearDown
+    public void tearDown() {
+        manager.disableMetrics();
+    }
+
+    /**
+     * Moves the next application to its other state.
+     */
+    @Benchmark
+    public void executeCommand() {
+        int id = cycling[next];
+        next = (next + 1) % cycling.length;
+        Application app = manager.getAppById(id);
+        manager.executeCommand(id, app.getState() == AppState.INTERVIEW ? STANDBY : REOPEN);
+    }
+
+    /**
+     * Returns the cached table rows.
+     *
+     * @return the rows
+     */
+    @Benchmark
+    public Object[][] getAppListAsArray() {
+        return manager.getAppListAsArray();
+    }
+
+    /**
+     * Records a latency straight into a histogram.
+     */
+    @Benchmark
+    public void record() {
+        histogram.record(next++ & 0xFFFFF);
+    }
+}
@@ -0,0 +1,84 @@
+package edu.ncsu.csc216.app_manager.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Benchmarks turning an application and its notes into text, for applications with few
+ * and with many notes.
+ *
+ * @author Praneel Magapu
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotesBenchmark {
+
+    /** Number of notes of the application */
+    @Param({ "1", "100", "10000" })
+    private int notes;
+
+    /** The application */
+    private Application app;
+
+    /** Output reused between calls, as AppWriter reuses its record buffer */
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * Builds the application.
+     */
+    @Setup
+    public void setUp() {
+        app = Fixtures.applications(1, notes).get(0);
+    }
+
+    /**
+     * Appends the record into a reused StringBuilder.
+     *
+     * @return the output
+     * @throws IOException never, as a StringBuilder is appended to
+     */
+    @Benchmark
+    public StringBuilder appendTo() throws IOException {
+        out.setLength(0);
+        app.appendTo(out);
+        return out;
+    }
+
+    /**
+     * Builds the record as a String.
+     *
+     * @return the record
+     */
+    @Benchmark
+    public String toRecordString() {
+        return app.toString();
+    }
+
+    /**
+     * Builds the notes as a String, as the GUI's notes view does.
+     *
+     * @return the notes
+     */
+    @Benchmark
+    public String getNotesString() {
+        return app.getNotesString();
+    }
+}
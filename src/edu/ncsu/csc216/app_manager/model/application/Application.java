@@ -1,535 +1,719 @@
-package edu.ncsu.csc216.app_manager.model.application;
-
-import edu.ncsu.csc216.app_manager.model.command.Command;
-import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
-
-import java.util.ArrayList;
-
-/**
- * Represents an application in the system.
- * @author Praneel Magapu
- */
-public class Application {
-
-    /** constant for new application*/
-    public static final String A_NEW = "New";
-
-    /**constant for old application*/
-    public static final String A_OLD = "Old";
-
-    /** constant for hired application */
-    public static final String A_HIRED = "Hired";
-
-    /** Constant for review name*/
-    public static final String REVIEW_NAME = "Review";
-
-    /** Constant for Interview Name */
-    public static final String INTERVIEW_NAME = "Interview";
-
-    /** Constant for Reference Check name */
-    public static final String REFCHK_NAME = "RefCheck";
-
-    /** Constant for Offer name */
-    public static final String OFFER_NAME = "Offer";
-
-    /** Constant for Wait-list name */
-    public static final String WAITLIST_NAME = "Waitlist";
-
-    /** Constant for a Closed application */
-    public static final String CLOSED_NAME = "Closed";
-
-    /** Private field for application ID */
-    private int appId;
-
-    /** Private field for the application state */
-    private AppState state;
-
-    /** Private field for the type of application */
-    private AppType appType;
-
-    /** Private field for the application summary */
-    private String summary;
-
-    /** Private field for the reviewer */
-    private String reviewer;
-
-    /** Private boolean for if the paperwork is processed or not */
-    private boolean processPaperwork;
-
-    /** Private field for the resolution*/
-    private Resolution resolution;
-
-    /** Private ArrayList of all the notes as a string */
-    private ArrayList<String> notes;
-
-    /**
-     * Enum representing the type of application.
-     */
-    public enum AppType {
-        
-        /**
-         * Represents a new application that has just been submitted.
-         */
-        NEW,
-
-        /**
-         * Represents an older application that was previously processed.
-         */
-        OLD,
-
-        /**
-         * Represents an application that has been completed, and the candidate has been hired.
-         */
-        HIRED
-    }
-
-
-    /**
-     * Constructs a new Application with the specified id, application type, summary, and note.
-     * 
-     * @param id Unique id of the application
-     * @param appType Type of the application
-     * @param summary Summary information of the application
-     * @param note Initial note to be added to the application
-     */
-    public Application(int id, AppType appType, String summary, String note) {
-
-        if (id < 1 || appType == null || summary == null || summary.isEmpty() || note == null || note.isEmpty()) {
-            throw new IllegalArgumentException("Application cannot be created.");
-        }
-        this.appId = id;
-        this.appType = appType;
-        this.summary = summary;
-        this.reviewer = null;
-        this.processPaperwork = false;
-        this.resolution = null;
-        this.notes = new ArrayList<>();
-        this.state = new ReviewState();
-        addNote(note);
-
-    }
-
-    /**
-     * Constructs a new Application with full details, used for reading from a data source.
-     * 
-     * @param id Unique id of the application
-     * @param state Current state of the application as a string
-     * @param appType Type of the application as a string
-     * @param summary Summary of the application
-     * @param reviewer Reviewer of the application
-     * @param processPaperwork Paperwork status of the application
-     * @param resolution Resolution of the application
-     * @param notes List of notes associated with the application
-     */
-    public Application(int id, String state, String appType, String summary, String reviewer, boolean processPaperwork, String resolution, ArrayList<String> notes) {
-        if (id < 1 || state == null || state.isEmpty() || appType == null || appType.isEmpty() || 
-                summary == null || summary.isEmpty() || reviewer == null || resolution == null
-                || notes == null || notes.isEmpty()) {
-            throw new IllegalArgumentException("Application cannot be created.");
-        }
-        this.appId = id;
-        setState(state); // Helper method to set state from a string
-        setAppType(appType); // Helper method to set appType from a string
-        this.summary = summary;
-        this.reviewer = reviewer;
-        this.processPaperwork = processPaperwork;
-        setResolution(resolution); // Helper method to set resolution from a string
-        this.notes = notes;
-    }
-
-    /**
-     * Sets the resolution for the application based on the provided resolution name.
-     * If the resolution name is null or empty, the resolution is set to null.
-     * 
-     * @param resolution the name of the resolution to set
-     * @throws IllegalArgumentException if the resolution name is invalid
-     */
-    private void setResolution(String resolution) {
-    	 if (resolution.equalsIgnoreCase(Command.R_REVCOMPLETED)) {
-             this.resolution = Resolution.REVCOMPLETED;
-         }
-         else if (resolution.equalsIgnoreCase(Command.R_INTCOMPLETED)) {
-             this.resolution = Resolution.INTCOMPLETED;
-         }
-         else if (resolution.equalsIgnoreCase(Command.R_REFCHKCOMPLETED)) {
-             this.resolution = Resolution.REFCHKCOMPLETED;
-         }
-         else if (resolution.equalsIgnoreCase(Command.R_OFFERCOMPLETED)) {
-             this.resolution = Resolution.OFFERCOMPLETED;
-         }
-         else {
-             this.resolution = null;
-         }
-    }
-
-    /**
-     * Sets the application type based on the provided application type name.
-     * 
-     * @param appTypeName the name of the application type
-     * @throws IllegalArgumentException if the application type is invalid
-     */
-    private void setAppType(String appTypeName) {
-        if (A_NEW.equals(appTypeName)) {
-            this.appType = AppType.NEW;
-        } else if (A_OLD.equals(appTypeName)) {
-            this.appType = AppType.OLD;
-        } else {
-            throw new IllegalArgumentException("Invalid app type.");
-        }
-
-    }
-
-    /**
-     * Sets the application state based on the provided state name.
-     * 
-     * @param stateName the name of the state to set
-     * @throws IllegalArgumentException if the state name is invalid
-     */
-    private void setState(String stateName) {
-        if (stateName.equalsIgnoreCase(REVIEW_NAME)) {
-            this.state = new ReviewState();
-        } else if (stateName.equalsIgnoreCase(INTERVIEW_NAME)) {
-            this.state = new InterviewState();
-        } else if (stateName.equalsIgnoreCase(WAITLIST_NAME)) {
-            this.state = new WaitlistState();
-        } else if (stateName.equalsIgnoreCase(REFCHK_NAME)) {
-            this.state = new RefChkState();    
-        } else if (stateName.equalsIgnoreCase(OFFER_NAME)) {
-            this.state = new OfferState();         
-        } else if (stateName.equalsIgnoreCase(CLOSED_NAME)) {
-            this.state = new ClosedState();
-        } else {
-            throw new IllegalArgumentException("Invalid state.");
-        }
-    }
-
-
-    /**
-     * Updates the application state based on the given command.
-     * 
-     * @param c Command to process
-     */
-    public void update(Command c) {
-        if (this.state != null) {
-            this.state.updateState(c); // Delegate to current state's updateState method
-        } else {
-            throw new UnsupportedOperationException("No valid state.");
-        }
-    }
-
-    /**
-     * Gets the state name of the application.
-     * 
-     * @return The state name
-     */
-    public String getStateName() {
-        return state.getStateName();
-    }
-
-    /**
-     * Gets the application type.
-     * 
-     * @return The application type
-     */
-    public String getAppType() {
-        switch (appType) {
-        case NEW:
-            return A_NEW;
-        case OLD:
-            return A_OLD;
-        case HIRED:
-            return A_HIRED;
-        default:
-            return null;
-        }
-    }
-
-    /**
-     * Gets the summary of the application.
-     * 
-     * @return The summary
-     */
-    public String getSummary() {
-        return summary;
-    }
-
-    /**
-     * Gets the reviewer of the application.
-     * 
-     * @return The reviewer
-     */
-    public String getReviewer() {
-        return reviewer;
-    }
-
-    /**
-     * Checks if the application is processed.
-     * 
-     * @return True if processed, false otherwise
-     */
-    public boolean isProcessed() {
-        return processPaperwork;
-    }
-
-    /**
-     * Gets the resolution of the application.
-     * 
-     * @return The resolution
-     */
-    public String getResolution() {
-        if (resolution == null) {
-            return null;
-        }
-        switch (resolution) {
-        case REVCOMPLETED:
-            return Command.R_REVCOMPLETED;
-        case INTCOMPLETED:
-            return Command.R_INTCOMPLETED;
-        case REFCHKCOMPLETED:
-            return Command.R_REFCHKCOMPLETED;
-        case OFFERCOMPLETED:
-            return Command.R_OFFERCOMPLETED;
-        default:
-            return null;
-        }
-    }
-
-    /**
-     * Gets the notes as a string.
-     * 
-     * @return The notes string
-     */
-    public String getNotesString() {
-        String result = "";
-        for (String note : notes) {
-            result += "-" + note + "\n";
-        }
-        return result;
-    }
-
-    /**
-     * Gets the notes.
-     * 
-     * @return The notes
-     */
-    public ArrayList<String> getNotes() {
-        return this.notes;
-    }
-
-    /**
-     * Gets the app ID.
-     * 
-     * @return The app ID
-     */
-    public int getAppId() {
-        return this.appId;
-    }
-
-    // Inner interface for AppState
-    private interface AppState {
-        void updateState(Command command);
-        String getStateName();
-    }
-
-    // Concrete State Classes
-    private class ReviewState implements AppState {
-        @Override
-        public void updateState(Command command) {
-            switch (command.getCommand()) {
-            case ACCEPT:
-                state = new InterviewState(); // Transition to InterviewState
-                reviewer = command.getReviewerId();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case REJECT:
-                state = new ClosedState(); // Transition to ClosedState
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case STANDBY:
-                state = new WaitlistState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            default:
-                throw new UnsupportedOperationException("Invalid information.");
-            }
-        }
-
-        @Override
-        public String getStateName() {
-            return REVIEW_NAME;
-        }
-    }
-
-    private class InterviewState implements AppState {
-        @Override
-        public void updateState(Command command) {
-            switch (command.getCommand()) {
-            case ACCEPT:
-                if (appType == AppType.NEW) {
-                    state = new RefChkState();
-                } else {
-                    state = new OfferState();
-                    processPaperwork = true;
-                }
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case REJECT:
-                state = new ClosedState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case STANDBY:
-                state = new WaitlistState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            default:
-                throw new UnsupportedOperationException("Invalid information.");
-            }
-        }
-
-        @Override
-        public String getStateName() {
-            return INTERVIEW_NAME;
-        }
-    }
-
-    private class WaitlistState implements AppState {
-        @Override
-        public void updateState(Command command) {
-            switch (command.getCommand()) {
-            case REOPEN:
-                state = new InterviewState();
-                addNote(command.getNote());
-                break;
-            case REJECT:
-                state = new ClosedState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case ACCEPT:
-                state = new OfferState();
-                processPaperwork = true; // Assuming paperwork is processed on offer
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            default:
-                throw new UnsupportedOperationException("Invalid information.");
-            }
-        }
-
-        @Override
-        public String getStateName() {
-            return WAITLIST_NAME;
-        }
-    }
-
-    private class RefChkState implements AppState {
-        @Override
-        public void updateState(Command command) {
-            switch (command.getCommand()) {
-            case ACCEPT:
-                state = new OfferState();
-                processPaperwork = true;
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case REJECT:
-                state = new ClosedState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            default:
-                throw new UnsupportedOperationException("Invalid information.");
-            }
-        }
-
-        @Override
-        public String getStateName() {
-            return REFCHK_NAME;
-        }
-    }
-
-    private class OfferState implements AppState {
-        @Override
-        public void updateState(Command command) {
-            switch (command.getCommand()) {
-            case ACCEPT:
-                state = new ClosedState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            case REJECT:
-                state = new ClosedState();
-                resolution = command.getResolution();
-                addNote(command.getNote());
-                break;
-            default:
-                throw new UnsupportedOperationException("Invalid information.");
-            }
-        }
-
-        @Override
-        public String getStateName() {
-            return OFFER_NAME;
-        }
-    }
-
-    private class ClosedState implements AppState {
-        @Override
-        public void updateState(Command command) {
-            throw new UnsupportedOperationException("Cannot update a closed application.");
-        }
-
-        @Override
-        public String getStateName() {
-            return CLOSED_NAME;
-        }
-    }
-
-    /**
-     * Adds a note to the application.
-     * 
-     * @param note the note to add
-     * @throws IllegalArgumentException if the note is null or empty
-     */
-    public void addNote(String note) {
-        if (note == null || note.isEmpty()) {
-            throw new IllegalArgumentException("Note cannot be empty.");
-        }
-        notes.add("[" + state.getStateName() + "] " + note);
-    }
-
-    /**
-     * Returns the string representation of the application, including the ID, state name, 
-     * type, summary, reviewer, whether the application is processed, and notes.
-     * 
-     * @return the string representation of the application
-     */
-    @Override
-    public String toString() {
-        // Initialize the result with common fields
-        String result = "*" + appId + "," + getStateName() + "," + getAppType() + "," + getSummary() + ",";
-
-        // Append reviewer if it's not null, otherwise append an empty string
-        if (getReviewer() != null) {
-            result += getReviewer() + ",";
-        }
-        result += processPaperwork + ",";
-
-        // Append resolution if it's not null
-        if (getResolution() != null) {
-            result += getResolution() + ",";
-        }
-
-        // Append notes, ensuring they are prefixed correctly
-        result += "\n" + getNotesString().trim();
-
-        return result;
-    }
-
+package edu.ncsu.csc216.app_manager.model.application;
+
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Represents an application in the system.
+ * 
+ * To keep the heap small with millions of applications, the reviewer is the shared copy
+ * from StringDictionary, and each note is kept as the state whose "[name] " prefix it
+ * starts with and the rest of the note. The full notes are put back together only when
+ * they are asked for or written out.
+ * @author Praneel Magapu
+ */
+public class Application {
+
+    /** constant for new application*/
+    public static final String A_NEW = "New";
+
+    /**constant for old application*/
+    public static final String A_OLD = "Old";
+
+    /** constant for hired application */
+    public static final String A_HIRED = "Hired";
+
+    /** Constant for review name*/
+    public static final String REVIEW_NAME = "Review";
+
+    /** Constant for Interview Name */
+    public static final String INTERVIEW_NAME = "Interview";
+
+    /** Constant for Reference Check name */
+    public static final String REFCHK_NAME = "RefCheck";
+
+    /** Constant for Offer name */
+    public static final String OFFER_NAME = "Offer";
+
+    /** Constant for Wait-list name */
+    public static final String WAITLIST_NAME = "Waitlist";
+
+    /** Constant for a Closed application */
+    public static final String CLOSED_NAME = "Closed";
+
+    /** Private field for application ID */
+    private int appId;
+
+    /** Private field for the application state */
+    private AppState state;
+
+    /** Private field for the type of application */
+    private AppType appType;
+
+    /** Private field for the application summary */
+    private String summary;
+
+    /** Private field for the reviewer */
+    private String reviewer;
+
+    /** Private boolean for if the paperwork is processed or not */
+    private boolean processPaperwork;
+
+    /** Private field for the resolution*/
+    private Resolution resolution;
+
+    /** Ordinal of the state each note's prefix names, or NO_PREFIX if the note is kept whole */
+    private byte[] notePrefixes;
+
+    /** Each note without its prefix */
+    private String[] noteBodies;
+
+    /** Number of notes */
+    private int noteCount;
+
+    /** Note prefix of a note that does not start with a state's prefix */
+    private static final byte NO_PREFIX = -1;
+
+    /** States by ordinal, for rebuilding note prefixes */
+    private static final AppState[] STATES = AppState.values();
+
+    /**
+     * Enum representing the type of application.
+     */
+    public enum AppType {
+        
+        /**
+         * Represents a new application that has just been submitted.
+         */
+        NEW,
+
+        /**
+         * Represents an older application that was previously processed.
+         */
+        OLD,
+
+        /**
+         * Represents an application that has been completed, and the candidate has been hired.
+         */
+        HIRED
+    }
+
+
+    /**
+     * Constructs a new Application with the specified id, application type, summary, and note.
+     * 
+     * @param id Unique id of the application
+     * @param appType Type of the application
+     * @param summary Summary information of the application
+     * @param note Initial note to be added to the application
+     */
+    public Application(int id, AppType appType, String summary, String note) {
+
+        if (id < 1 || appType == null || summary == null || summary.isEmpty() || note == null || note.isEmpty()) {
+            throw new IllegalArgumentException("Application cannot be created.");
+        }
+        this.appId = id;
+        this.appType = appType;
+        this.summary = summary;
+        this.reviewer = null;
+        this.processPaperwork = false;
+        this.resolution = null;
+        this.notePrefixes = new byte[1];
+        this.noteBodies = new String[1];
+        this.state = AppState.REVIEW;
+        addNote(note);
+
+    }
+
+    /**
+     * Constructs a new Application with full details, used for reading from a data source.
+     * 
+     * @param id Unique id of the application
+     * @param state Current state of the application as a string
+     * @param appType Type of the application as a string
+     * @param summary Summary of the application
+     * @param reviewer Reviewer of the application
+     * @param processPaperwork Paperwork status of the application
+     * @param resolution Resolution of the application
+     * @param notes List of notes associated with the application
+     */
+    public Application(int id, String state, String appType, String summary, String reviewer, boolean processPaperwork, String resolution, ArrayList<String> notes) {
+        if (id < 1 || state == null || state.isEmpty() || appType == null || appType.isEmpty() || 
+                summary == null || summary.isEmpty() || reviewer == null || resolution == null
+                || notes == null || notes.isEmpty()) {
+            throw new IllegalArgumentException("Application cannot be created.");
+        }
+        this.appId = id;
+        setState(state); // Helper method to set state from a string
+        setAppType(appType); // Helper method to set appType from a string
+        this.summary = summary;
+        this.reviewer = StringDictionary.intern(reviewer);
+        this.processPaperwork = processPaperwork;
+        setResolution(resolution); // Helper method to set resolution from a string
+        this.notePrefixes = new byte[notes.size()];
+        this.noteBodies = new String[notes.size()];
+        for (String note : notes) {
+            storeNote(note);
+        }
+    }
+
+    /**
+     * Constructs a copy of an application, which does not change when the original is
+     * updated, so it can be written out while the original keeps changing.
+     * 
+     * @param other the application to copy
+     */
+    public Application(Application other) {
+        this.appId = other.appId;
+        this.state = other.state;
+        this.appType = other.appType;
+        this.summary = other.summary;
+        this.reviewer = other.reviewer;
+        this.processPaperwork = other.processPaperwork;
+        this.resolution = other.resolution;
+        this.notePrefixes = Arrays.copyOf(other.notePrefixes, other.noteCount);
+        this.noteBodies = Arrays.copyOf(other.noteBodies, other.noteCount);
+        this.noteCount = other.noteCount;
+    }
+
+    /**
+     * Sets the resolution for the application based on the provided resolution name.
+     * If the resolution name is null or empty, the resolution is set to null.
+     * 
+     * @param resolution the name of the resolution to set
+     * @throws IllegalArgumentException if the resolution name is invalid
+     */
+    private void setResolution(String resolution) {
+    	 if (resolution.equalsIgnoreCase(Command.R_REVCOMPLETED)) {
+             this.resolution = Resolution.REVCOMPLETED;
+         }
+         else if (resolution.equalsIgnoreCase(Command.R_INTCOMPLETED)) {
+             this.resolution = Resolution.INTCOMPLETED;
+         }
+         else if (resolution.equalsIgnoreCase(Command.R_REFCHKCOMPLETED)) {
+             this.resolution = Resolution.REFCHKCOMPLETED;
+         }
+         else if (resolution.equalsIgnoreCase(Command.R_OFFERCOMPLETED)) {
+             this.resolution = Resolution.OFFERCOMPLETED;
+         }
+         else {
+             this.resolution = null;
+         }
+    }
+
+    /**
+     * Sets the application type based on the provided application type name.
+     * 
+     * @param appTypeName the name of the application type
+     * @throws IllegalArgumentException if the application type is invalid
+     */
+    private void setAppType(String appTypeName) {
+        if (A_NEW.equals(appTypeName)) {
+            this.appType = AppType.NEW;
+        } else if (A_OLD.equals(appTypeName)) {
+            this.appType = AppType.OLD;
+        } else {
+            throw new IllegalArgumentException("Invalid app type.");
+        }
+
+    }
+
+    /**
+     * Sets the application state based on the provided state name.
+     * 
+     * @param stateName the name of the state to set
+     * @throws IllegalArgumentException if the state name is invalid
+     */
+    private void setState(String stateName) {
+        if (stateName.equalsIgnoreCase(REVIEW_NAME)) {
+            this.state = AppState.REVIEW;
+        } else if (stateName.equalsIgnoreCase(INTERVIEW_NAME)) {
+            this.state = AppState.INTERVIEW;
+        } else if (stateName.equalsIgnoreCase(WAITLIST_NAME)) {
+            this.state = AppState.WAITLIST;
+        } else if (stateName.equalsIgnoreCase(REFCHK_NAME)) {
+            this.state = AppState.REFCHK;    
+        } else if (stateName.equalsIgnoreCase(OFFER_NAME)) {
+            this.state = AppState.OFFER;         
+        } else if (stateName.equalsIgnoreCase(CLOSED_NAME)) {
+            this.state = AppState.CLOSED;
+        } else {
+            throw new IllegalArgumentException("Invalid state.");
+        }
+    }
+
+
+    /**
+     * Updates the application state based on the given command, by looking up the
+     * transition for the current state, command value and application type. Every
+     * transition made is counted in the transition rates.
+     * 
+     * @param c Command to process
+     * @throws UnsupportedOperationException if the command is not valid in the current state
+     */
+    public void update(Command c) {
+        if (this.state == null) {
+            throw new UnsupportedOperationException("No valid state.");
+        }
+        Transition transition = TRANSITIONS[transitionIndex(state, c.getCommand(), appType)];
+        if (transition == null) {
+            if (state == AppState.CLOSED) {
+                throw new UnsupportedOperationException("Cannot update a closed application.");
+            }
+            throw new UnsupportedOperationException("Invalid information.");
+        }
+        TransitionRates rates = transitionRates;
+        // Counted only while metrics are enabled, so an update otherwise never reads the clock
+        if (rates != null) {
+            rates.record(state, c.getCommand());
+        }
+        state = transition.next;
+        if (transition.setsReviewer) {
+            reviewer = StringDictionary.intern(c.getReviewerId());
+        }
+        if (transition.setsResolution) {
+            resolution = c.getResolution();
+        }
+        if (transition.processesPaperwork) {
+            processPaperwork = true;
+        }
+        addNote(c.getNote());
+    }
+
+    /**
+     * Gets the state name of the application.
+     * 
+     * @return The state name
+     */
+    public String getStateName() {
+        return state.getStateName();
+    }
+
+    /**
+     * Gets the state of the application.
+     * 
+     * @return The state
+     */
+    public AppState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the application type as an AppType.
+     * 
+     * @return The application type
+     */
+    public AppType getType() {
+        return appType;
+    }
+
+    /**
+     * Gets the application type.
+     * 
+     * @return The application type
+     */
+    public String getAppType() {
+        switch (appType) {
+        case NEW:
+            return A_NEW;
+        case OLD:
+            return A_OLD;
+        case HIRED:
+            return A_HIRED;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Gets the summary of the application.
+     * 
+     * @return The summary
+     */
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * Gets the reviewer of the application.
+     * 
+     * @return The reviewer
+     */
+    public String getReviewer() {
+        return reviewer;
+    }
+
+    /**
+     * Checks if the application is processed.
+     * 
+     * @return True if processed, false otherwise
+     */
+    public boolean isProcessed() {
+        return processPaperwork;
+    }
+
+    /**
+     * Gets the resolution of the application.
+     * 
+     * @return The resolution
+     */
+    public String getResolution() {
+        if (resolution == null) {
+            return null;
+        }
+        switch (resolution) {
+        case REVCOMPLETED:
+            return Command.R_REVCOMPLETED;
+        case INTCOMPLETED:
+            return Command.R_INTCOMPLETED;
+        case REFCHKCOMPLETED:
+            return Command.R_REFCHKCOMPLETED;
+        case OFFERCOMPLETED:
+            return Command.R_OFFERCOMPLETED;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Gets the notes as a string.
+     * 
+     * @return The notes string
+     */
+    public String getNotesString() {
+        StringBuilder result = new StringBuilder();
+        try {
+            appendNotesTo(result);
+        } catch (IOException e) {
+            // A StringBuilder never throws an IOException
+            throw new IllegalStateException(e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Appends the notes to the given output, each prefixed with '-' and ending with a new line,
+     * in the same form as getNotesString.
+     * 
+     * @param out the output to append to
+     * @throws IOException if the output cannot be appended to
+     */
+    public void appendNotesTo(Appendable out) throws IOException {
+        for (int i = 0; i < noteCount; i++) {
+            appendNote(out.append('-'), i, false).append('\n');
+        }
+    }
+
+    /**
+     * Appends a note, with its prefix, to the given output.
+     * 
+     * @param out the output to append to
+     * @param index the index of the note
+     * @param trimEnd whether to leave out the whitespace at the end of the note
+     * @return the output
+     * @throws IOException if the output cannot be appended to
+     */
+    private Appendable appendNote(Appendable out, int index, boolean trimEnd) throws IOException {
+        String body = noteBodies[index];
+        int end = body.length();
+        while (trimEnd && end > 0 && body.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (notePrefixes[index] != NO_PREFIX) {
+            out.append('[').append(STATES[notePrefixes[index]].getStateName()).append(']');
+            // A note trimmed down to its prefix loses the space after the prefix too
+            if (end == 0 && trimEnd) {
+                return out;
+            }
+            out.append(' ');
+        }
+        return out.append(body, 0, end);
+    }
+
+    /**
+     * Appends the record for this application to the given output, in the same form as
+     * toString, without building any intermediate Strings.
+     * 
+     * @param out the output to append to
+     * @throws IOException if the output cannot be appended to
+     */
+    public void appendTo(Appendable out) throws IOException {
+        out.append('*').append(Integer.toString(appId)).append(',').append(getStateName()).append(',')
+                .append(getAppType()).append(',').append(summary).append(',');
+        if (reviewer != null) {
+            out.append(reviewer).append(',');
+        }
+        out.append(processPaperwork ? "true" : "false").append(',');
+        if (resolution != null) {
+            out.append(getResolution()).append(',');
+        }
+        out.append('\n');
+
+        // Every note starts with '-', so trimming the notes only drops the end of the last one
+        int last = noteCount - 1;
+        for (int i = 0; i < last; i++) {
+            appendNote(out.append('-'), i, false).append('\n');
+        }
+        if (last >= 0) {
+            appendNote(out.append('-'), last, true);
+        }
+    }
+
+    /**
+     * Gets the notes. The notes are rebuilt with their prefixes on each call, so the list is
+     * a copy and changing it does not change the application.
+     * 
+     * @return The notes
+     */
+    public ArrayList<String> getNotes() {
+        ArrayList<String> notes = new ArrayList<>(noteCount);
+        StringBuilder note = new StringBuilder();
+        for (int i = 0; i < noteCount; i++) {
+            note.setLength(0);
+            try {
+                appendNote(note, i, false);
+            } catch (IOException e) {
+                // A StringBuilder never throws an IOException
+                throw new IllegalStateException(e);
+            }
+            notes.add(note.toString());
+        }
+        return notes;
+    }
+
+    /**
+     * Gets the app ID.
+     * 
+     * @return The app ID
+     */
+    public int getAppId() {
+        return this.appId;
+    }
+
+    /**
+     * Sets the counts the transitions made by every application are recorded in, which
+     * AppManagerMetrics does while it is enabled.
+     * 
+     * @param rates the transition counts, or null to stop counting transitions
+     */
+    public static void setTransitionRates(TransitionRates rates) {
+        transitionRates = rates;
+    }
+
+    /**
+     * States of the application FSM. The transitions between them are kept in the
+     * TRANSITIONS table, so every application shares the same six instances.
+     */
+    public enum AppState {
+
+        /** An application waiting to be reviewed */
+        REVIEW(REVIEW_NAME),
+
+        /** An application whose candidate is being interviewed */
+        INTERVIEW(INTERVIEW_NAME),
+
+        /** An application on the waitlist */
+        WAITLIST(WAITLIST_NAME),
+
+        /** An application whose references are being checked */
+        REFCHK(REFCHK_NAME),
+
+        /** An application whose candidate has been made an offer */
+        OFFER(OFFER_NAME),
+
+        /** A closed application, which cannot be updated */
+        CLOSED(CLOSED_NAME);
+
+        /** Name of the state */
+        private final String stateName;
+
+        /**
+         * Constructs a state with the given name.
+         * 
+         * @param stateName the name of the state
+         */
+        AppState(String stateName) {
+            this.stateName = stateName;
+        }
+
+        /**
+         * Gets the name of the state.
+         * 
+         * @return the state name
+         */
+        public String getStateName() {
+            return stateName;
+        }
+    }
+
+    /**
+     * A single entry of the transition table: the state an application moves to and the
+     * fields the command sets on the way. The command's note is always added once the
+     * application is in the next state.
+     */
+    private static final class Transition {
+
+        /** State the application moves to */
+        private final AppState next;
+
+        /** Whether the reviewer is set from the command */
+        private final boolean setsReviewer;
+
+        /** Whether the resolution is set from the command */
+        private final boolean setsResolution;
+
+        /** Whether the paperwork is marked as processed */
+        private final boolean processesPaperwork;
+
+        /**
+         * Constructs a transition.
+         * 
+         * @param next the state the application moves to
+         * @param setsReviewer whether the reviewer is set from the command
+         * @param setsResolution whether the resolution is set from the command
+         * @param processesPaperwork whether the paperwork is marked as processed
+         */
+        private Transition(AppState next, boolean setsReviewer, boolean setsResolution, boolean processesPaperwork) {
+            this.next = next;
+            this.setsReviewer = setsReviewer;
+            this.setsResolution = setsResolution;
+            this.processesPaperwork = processesPaperwork;
+        }
+    }
+
+    /** Number of command values, one dimension of the transition table */
+    private static final int COMMANDS = CommandValue.values().length;
+
+    /** Number of application types, one dimension of the transition table */
+    private static final int APP_TYPES = AppType.values().length;
+
+    /**
+     * Transition table indexed by state, command value and application type, as computed
+     * by transitionIndex. A null entry means the command is not valid in that state.
+     */
+    private static final Transition[] TRANSITIONS = new Transition[AppState.values().length * COMMANDS * APP_TYPES];
+
+    /** Counts of the transitions made by every application, or null while they are not counted */
+    private static volatile TransitionRates transitionRates;
+
+    static {
+        rule(AppState.REVIEW, CommandValue.ACCEPT, null, new Transition(AppState.INTERVIEW, true, true, false));
+        rule(AppState.REVIEW, CommandValue.REJECT, null, new Transition(AppState.CLOSED, false, true, false));
+        rule(AppState.REVIEW, CommandValue.STANDBY, null, new Transition(AppState.WAITLIST, false, true, false));
+
+        rule(AppState.INTERVIEW, CommandValue.ACCEPT, null, new Transition(AppState.OFFER, false, true, true));
+        rule(AppState.INTERVIEW, CommandValue.ACCEPT, AppType.NEW, new Transition(AppState.REFCHK, false, true, false));
+        rule(AppState.INTERVIEW, CommandValue.REJECT, null, new Transition(AppState.CLOSED, false, true, false));
+        rule(AppState.INTERVIEW, CommandValue.STANDBY, null, new Transition(AppState.WAITLIST, false, true, false));
+
+        rule(AppState.WAITLIST, CommandValue.REOPEN, null, new Transition(AppState.INTERVIEW, false, false, false));
+        rule(AppState.WAITLIST, CommandValue.REJECT, null, new Transition(AppState.CLOSED, false, true, false));
+        rule(AppState.WAITLIST, CommandValue.ACCEPT, null, new Transition(AppState.OFFER, false, true, true));
+
+        rule(AppState.REFCHK, CommandValue.ACCEPT, null, new Transition(AppState.OFFER, false, true, true));
+        rule(AppState.REFCHK, CommandValue.REJECT, null, new Transition(AppState.CLOSED, false, true, false));
+
+        rule(AppState.OFFER, CommandValue.ACCEPT, null, new Transition(AppState.CLOSED, false, true, false));
+        rule(AppState.OFFER, CommandValue.REJECT, null, new Transition(AppState.CLOSED, false, true, false));
+    }
+
+    /**
+     * Adds a rule to the transition table.
+     * 
+     * @param from the state the rule applies in
+     * @param command the command value the rule applies to
+     * @param appType the application type the rule applies to, or null for every type
+     * @param transition the transition to make
+     */
+    private static void rule(AppState from, CommandValue command, AppType appType, Transition transition) {
+        for (AppType type : AppType.values()) {
+            if (appType == null || appType == type) {
+                TRANSITIONS[transitionIndex(from, command, type)] = transition;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of a state, command value and application type in the transition table.
+     * 
+     * @param state the current state
+     * @param command the command value
+     * @param appType the application type
+     * @return the index of the transition
+     */
+    private static int transitionIndex(AppState state, CommandValue command, AppType appType) {
+        return (state.ordinal() * COMMANDS + command.ordinal()) * APP_TYPES + appType.ordinal();
+    }
+
+    /**
+     * Adds a note to the application.
+     * 
+     * @param note the note to add
+     * @throws IllegalArgumentException if the note is null or empty
+     */
+    public void addNote(String note) {
+        if (note == null || note.isEmpty()) {
+            throw new IllegalArgumentException("Note cannot be empty.");
+        }
+        addNote(state, note);
+    }
+
+    /**
+     * Stores a whole note, splitting off its prefix if it starts with one naming a state.
+     * 
+     * @param note the note, as read from a data source
+     */
+    private void storeNote(String note) {
+        if (note.startsWith("[")) {
+            for (AppState prefixState : STATES) {
+                String name = prefixState.getStateName();
+                if (note.startsWith(name, 1) && note.startsWith("] ", name.length() + 1)) {
+                    addNote(prefixState, note.substring(name.length() + 3));
+                    return;
+                }
+            }
+        }
+        addNote(null, note);
+    }
+
+    /**
+     * Adds a note with the given state's prefix.
+     * 
+     * @param prefixState the state named by the note's prefix, or null if the note has no prefix
+     * @param body the note without its prefix
+     */
+    private void addNote(AppState prefixState, String body) {
+        if (noteCount == noteBodies.length) {
+            int capacity = Math.max(4, noteCount * 2);
+            notePrefixes = Arrays.copyOf(notePrefixes, capacity);
+            noteBodies = Arrays.copyOf(noteBodies, capacity);
+        }
+        notePrefixes[noteCount] = prefixState == null ? NO_PREFIX : (byte) prefixState.ordinal();
+        noteBodies[noteCount] = body;
+        noteCount++;
+    }
+
+    /**
+     * Returns the string representation of the application, including the ID, state name, 
+     * type, summary, reviewer, whether the application is processed, and notes.
+     * 
+     * @return the string representation of the application
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        try {
+            appendTo(result);
+        } catch (IOException e) {
+            // A StringBuilder never throws an IOException
+            throw new IllegalStateException(e);
+        }
+        return result.toString();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of the reviewer names held by Applications. A list has a few hundred
+ * reviewers shared by millions of applications, so every Application refers to the one
+ * copy of its reviewer's name kept here instead of its own. Names are never removed, and
+ * the dictionary can be used from any thread.
+ *
+ * @author Praneel Magapu
+ */
+final class StringDictionary {
+
+    /** The single copy of each name, keyed by itself */
+    private static final ConcurrentHashMap<String, String> ENTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * Prevents instantiation.
+     */
+    private StringDictionary() {
+        // Only static members
+    }
+
+    /**
+     * Returns the dictionary's copy of the given string, adding it if it is new.
+     *
+     * @param value the string, or null
+     * @return the shared copy equal to the string, or null if it was null
+     */
+    static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = ENTRIES.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+}
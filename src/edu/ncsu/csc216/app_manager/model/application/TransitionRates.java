@@ -0,0 +1,140 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/**
+ * Sliding-window counts of the transitions made by Application.update, by the state an
+ * application was in and the command it was given, so "how many ACCEPTs from Interview
+ * in the last minute" is read from a fixed number of buckets however many applications
+ * there are.
+ *
+ * The window is split into buckets of equal length kept in a ring. Each bucket holds the
+ * bucket number it counts, in the high bits, and its count, in the low bits, in a single
+ * long, so a thread that finds a stale bucket resets and increments it with one
+ * compare-and-set, and recording never locks. A bucket stops counting at about sixteen
+ * million.
+ *
+ * @author Praneel Magapu
+ */
+public class TransitionRates {
+
+    /** Number of low bits of a bucket that hold its count */
+    private static final int COUNT_BITS = 24;
+
+    /** Mask of the count of a bucket */
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    /** Mask of the bucket number kept in the high bits, which wraps around */
+    private static final long BUCKET_MASK = -1L >>> COUNT_BITS;
+
+    /** Number of command values */
+    private static final int COMMANDS = CommandValue.values().length;
+
+    /** Number of buckets in the window */
+    private final int buckets;
+
+    /** Length of a bucket in milliseconds */
+    private final long bucketMillis;
+
+    /** Source of the current time in milliseconds */
+    private final LongSupplier clock;
+
+    /** Buckets of each state and command, buckets apart, as bucket number and count */
+    private final AtomicLongArray counts;
+
+    /**
+     * Constructs counts over a window of the given number of buckets.
+     *
+     * @param buckets the number of buckets in the window
+     * @param bucketMillis the length of a bucket in milliseconds
+     * @throws IllegalArgumentException if either is not positive
+     */
+    public TransitionRates(int buckets, long bucketMillis) {
+        this(buckets, bucketMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs counts over a window of the given number of buckets, timed by the given clock.
+     *
+     * @param buckets the number of buckets in the window
+     * @param bucketMillis the length of a bucket in milliseconds
+     * @param clock the source of the current time in milliseconds
+     * @throws IllegalArgumentException if either is not positive
+     */
+    TransitionRates(int buckets, long bucketMillis, LongSupplier clock) {
+        if (buckets < 1 || bucketMillis < 1) {
+            throw new IllegalArgumentException("Invalid window.");
+        }
+        this.buckets = buckets;
+        this.bucketMillis = bucketMillis;
+        this.clock = clock;
+        this.counts = new AtomicLongArray(AppState.values().length * COMMANDS * buckets);
+    }
+
+    /**
+     * Returns the length of the window.
+     *
+     * @return the length of the window in milliseconds
+     */
+    public long getWindowMillis() {
+        return buckets * bucketMillis;
+    }
+
+    /**
+     * Counts a transition made now.
+     *
+     * @param from the state the application was in
+     * @param command the command it was given
+     */
+    public void record(AppState from, CommandValue command) {
+        long bucket = clock.getAsLong() / bucketMillis;
+        int slot = slot(from, command, bucket);
+        long number = bucket & BUCKET_MASK;
+        while (true) {
+            long value = counts.get(slot);
+            boolean current = value >>> COUNT_BITS == number;
+            // A full bucket keeps its count rather than overflowing into the bucket number
+            if (current && (value & COUNT_MASK) == COUNT_MASK
+                    || counts.compareAndSet(slot, value, current ? value + 1 : number << COUNT_BITS | 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of transitions made from the given state with the given command
+     * within the window, including the bucket in progress.
+     *
+     * @param from the state the applications were in
+     * @param command the command they were given
+     * @return the number of transitions
+     */
+    public long getCount(AppState from, CommandValue command) {
+        long current = clock.getAsLong() / bucketMillis & BUCKET_MASK;
+        int first = slot(from, command, 0);
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            long value = counts.get(first + i);
+            if ((current - (value >>> COUNT_BITS) & BUCKET_MASK) < buckets) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the position of the bucket of a state and command.
+     *
+     * @param from the state
+     * @param command the command
+     * @param bucket the bucket number
+     * @return the position in counts
+     */
+    private int slot(AppState from, CommandValue command, long bucket) {
+        return (from.ordinal() * COMMANDS + command.ordinal()) * buckets + (int) (bucket % buckets);
+    }
+}
@@ -0,0 +1,401 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * Generates synthetic applications, and files of them in the format AppReader reads, at
+ * any scale for load and scale testing. Each application is created in Review and driven
+ * to its state through Application.update, so its reviewer, resolution, paperwork flag and
+ * note prefixes are always ones the FSM could have produced, and the file AppWriter writes
+ * from them always loads.
+ *
+ * The applications are drawn from a Random seeded with the given seed, so a generator with
+ * the same seed and settings always produces the same applications. Their ids run from 1
+ * to the number of records. Reference checks are only made on new applications, so an
+ * application drawn in RefCheck is always of type New.
+ *
+ * @author Praneel Magapu
+ */
+public class AppFileGenerator {
+
+    /** Number of applications generated when no record count is set */
+    private static final int DEFAULT_RECORDS = 1000;
+
+    /** Number of reviewers when no reviewer count is set */
+    private static final int DEFAULT_REVIEWERS = 10;
+
+    /** Seed of the random numbers */
+    private final long seed;
+
+    /** Number of applications to generate */
+    private int records = DEFAULT_RECORDS;
+
+    /** Smallest number of notes of each application */
+    private int notesPerRecord = 1;
+
+    /** Number of distinct reviewers */
+    private int reviewers = DEFAULT_REVIEWERS;
+
+    /** Relative weight of each state */
+    private final Map<AppState, Integer> stateWeights = new EnumMap<>(AppState.class);
+
+    /** Relative weight of each type */
+    private final Map<AppType, Integer> typeWeights = new EnumMap<>(AppType.class);
+
+    /**
+     * Constructs a generator of 1000 applications with one note each, spread evenly over
+     * the states and the New and Old types, with 10 reviewers.
+     *
+     * @param seed the seed of the random numbers
+     */
+    public AppFileGenerator(long seed) {
+        this.seed = seed;
+        for (AppState state : AppState.values()) {
+            stateWeights.put(state, 1);
+        }
+        typeWeights.put(AppType.NEW, 1);
+        typeWeights.put(AppType.OLD, 1);
+    }
+
+    /**
+     * Sets the number of applications to generate.
+     *
+     * @param records the number of applications
+     * @throws IllegalArgumentException if the number is negative
+     */
+    public void setRecords(int records) {
+        if (records < 0) {
+            throw new IllegalArgumentException("Record count cannot be negative.");
+        }
+        this.records = records;
+    }
+
+    /**
+     * Sets the number of notes of each application. An application gets a note for each
+     * transition that brings it to its state, so one that needs more transitions than
+     * this has more notes.
+     *
+     * @param notesPerRecord the number of notes
+     * @throws IllegalArgumentException if the number is less than one
+     */
+    public void setNotesPerRecord(int notesPerRecord) {
+        if (notesPerRecord < 1) {
+            throw new IllegalArgumentException("An application needs at least one note.");
+        }
+        this.notesPerRecord = notesPerRecord;
+    }
+
+    /**
+     * Sets the number of distinct reviewers the applications are assigned to.
+     *
+     * @param reviewers the number of reviewers
+     * @throws IllegalArgumentException if the number is less than one
+     */
+    public void setReviewers(int reviewers) {
+        if (reviewers < 1) {
+            throw new IllegalArgumentException("There must be at least one reviewer.");
+        }
+        this.reviewers = reviewers;
+    }
+
+    /**
+     * Sets how often applications are in the given state, relative to the other states.
+     * A weight of zero leaves the state out.
+     *
+     * @param state the state
+     * @param weight the relative weight of the state
+     * @throws IllegalArgumentException if the state is null or the weight is negative
+     */
+    public void setStateWeight(AppState state, int weight) {
+        if (state == null || weight < 0) {
+            throw new IllegalArgumentException("Invalid state weight.");
+        }
+        stateWeights.put(state, weight);
+    }
+
+    /**
+     * Sets how often applications are of the given type, relative to the other type.
+     * A weight of zero leaves the type out, except for applications in RefCheck.
+     *
+     * @param type the type, New or Old
+     * @param weight the relative weight of the type
+     * @throws IllegalArgumentException if the type is not New or Old or the weight is negative
+     */
+    public void setTypeWeight(AppType type, int weight) {
+        if (type != AppType.NEW && type != AppType.OLD || weight < 0) {
+            throw new IllegalArgumentException("Invalid type weight.");
+        }
+        typeWeights.put(type, weight);
+    }
+
+    /**
+     * Returns the applications, generated one at a time as they are iterated, so that a
+     * file of any size can be written without holding every application in memory. Each
+     * iteration produces the same applications.
+     *
+     * @return the applications
+     * @throws IllegalArgumentException if every state or every type has a weight of zero
+     */
+    public Iterable<Application> applications() {
+        AppState[] states = AppState.values();
+        AppType[] types = { AppType.NEW, AppType.OLD };
+        int[] stateTotals = totals(states, stateWeights);
+        int[] typeTotals = totals(types, typeWeights);
+        if (records > 0 && (stateTotals[states.length - 1] == 0 || typeTotals[types.length - 1] == 0)) {
+            throw new IllegalArgumentException("Every state or type has a weight of zero.");
+        }
+        return () -> new Iterator<Application>() {
+
+            /** Source of the random choices of this iteration */
+            private final Random random = new Random(seed);
+
+            /** Id of the next application */
+            private int id = 1;
+
+            @Override
+            public boolean hasNext() {
+                return id <= records;
+            }
+
+            @Override
+            public Application next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                AppState state = states[pick(random, stateTotals)];
+                AppType type = state == AppState.REFCHK ? AppType.NEW : types[pick(random, typeTotals)];
+                return generate(random, id++, state, type);
+            }
+        };
+    }
+
+    /**
+     * Returns the applications as a list.
+     *
+     * @return the applications, in id order
+     */
+    public List<Application> generateApps() {
+        List<Application> apps = new ArrayList<>(records);
+        for (Application app : applications()) {
+            apps.add(app);
+        }
+        return apps;
+    }
+
+    /**
+     * Writes the applications to the specified file, generating them as they are written.
+     *
+     * @param fileName the name of the file to write to
+     */
+    public void writeToFile(String fileName) {
+        AppWriter.streamAppsToFile(fileName, applications());
+    }
+
+    /**
+     * Writes a file of generated applications. The arguments are the name of the file,
+     * then optionally the number of records, the number of notes per record, the number
+     * of reviewers and the seed.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: AppFileGenerator file [records [notes [reviewers [seed]]]]");
+            return;
+        }
+        AppFileGenerator generator = new AppFileGenerator(args.length > 4 ? Long.parseLong(args[4]) : 0);
+        if (args.length > 1) {
+            generator.setRecords(Integer.parseInt(args[1]));
+        }
+        if (args.length > 2) {
+            generator.setNotesPerRecord(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            generator.setReviewers(Integer.parseInt(args[3]));
+        }
+        generator.writeToFile(args[0]);
+    }
+
+    /**
+     * Generates an application by driving a new application to the given state, then
+     * building it as it would be read from a file.
+     *
+     * @param random the source of the random choices
+     * @param id the id of the application
+     * @param state the state the application ends in
+     * @param type the type of the application
+     * @return the application
+     */
+    private Application generate(Random random, int id, AppState state, AppType type) {
+        Application app = new Application(id, type, "Summary of application " + id, note(random, 1));
+        String reviewer = "reviewer" + random.nextInt(reviewers);
+        int notes = 1;
+        for (CommandValue value : path(random, state, type)) {
+            Resolution resolution = null;
+            if (value == CommandValue.STANDBY || value == CommandValue.REJECT || app.getState() == AppState.OFFER) {
+                resolution = resolution(app.getState());
+            }
+            app.update(new Command(value, reviewer, resolution, note(random, ++notes)));
+        }
+        while (notes < notesPerRecord) {
+            app.addNote(note(random, ++notes));
+        }
+        // Rebuild the application as AppReader would, since an application that has never
+        // had a reviewer is written without the reviewer field and would not load
+        return new Application(id, app.getStateName(), app.getAppType(), app.getSummary(),
+                app.getReviewer() == null ? "" : app.getReviewer(), app.isProcessed(),
+                app.getResolution() == null ? "" : app.getResolution(), app.getNotes());
+    }
+
+    /**
+     * Returns the commands that take a new application of the given type to the given
+     * state, choosing at random where there is more than one way.
+     *
+     * @param random the source of the random choices
+     * @param state the state to reach
+     * @param type the type of the application
+     * @return the commands
+     */
+    private static List<CommandValue> path(Random random, AppState state, AppType type) {
+        List<CommandValue> path = new ArrayList<>();
+        switch (state) {
+        case REVIEW:
+            break;
+        case INTERVIEW:
+            path.add(CommandValue.ACCEPT);
+            if (random.nextInt(4) == 0) {
+                path.add(CommandValue.STANDBY);
+                path.add(CommandValue.REOPEN);
+            }
+            break;
+        case WAITLIST:
+            if (random.nextBoolean()) {
+                path.add(CommandValue.ACCEPT);
+            }
+            path.add(CommandValue.STANDBY);
+            break;
+        case REFCHK:
+            path.add(CommandValue.ACCEPT);
+            path.add(CommandValue.ACCEPT);
+            break;
+        case OFFER:
+            path.addAll(toOffer(random, type));
+            break;
+        case CLOSED:
+            if (random.nextBoolean()) {
+                path.add(CommandValue.REJECT);
+            } else {
+                path.addAll(toOffer(random, type));
+                path.add(random.nextBoolean() ? CommandValue.ACCEPT : CommandValue.REJECT);
+            }
+            break;
+        default:
+            throw new IllegalArgumentException("Invalid state.");
+        }
+        return path;
+    }
+
+    /**
+     * Returns the commands that take a new application of the given type to Offer, either
+     * through an interview, and a reference check for a new application, or from Waitlist.
+     *
+     * @param random the source of the random choices
+     * @param type the type of the application
+     * @return the commands
+     */
+    private static List<CommandValue> toOffer(Random random, AppType type) {
+        List<CommandValue> path = new ArrayList<>();
+        if (random.nextInt(4) == 0) {
+            path.add(CommandValue.STANDBY);
+            path.add(CommandValue.ACCEPT);
+        } else {
+            path.add(CommandValue.ACCEPT);
+            path.add(CommandValue.ACCEPT);
+            if (type == AppType.NEW) {
+                path.add(CommandValue.ACCEPT);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Returns the resolution of a rejection or standby from the given state, or of a
+     * hire from Offer.
+     *
+     * @param state the state the application leaves
+     * @return the resolution
+     */
+    private static Resolution resolution(AppState state) {
+        switch (state) {
+        case REVIEW:
+            return Resolution.REVCOMPLETED;
+        case REFCHK:
+            return Resolution.REFCHKCOMPLETED;
+        case OFFER:
+            return Resolution.OFFERCOMPLETED;
+        default:
+            return Resolution.INTCOMPLETED;
+        }
+    }
+
+    /**
+     * Returns the text of a note, which sometimes runs on to a second line.
+     *
+     * @param random the source of the random choices
+     * @param number the number of the note within its application
+     * @return the note
+     */
+    private static String note(Random random, int number) {
+        if (random.nextInt(4) == 0) {
+            return "Note " + number + "\nthat goes on a new line";
+        }
+        return "Note " + number;
+    }
+
+    /**
+     * Returns the running totals of the weights of the given values.
+     *
+     * @param <T> the type of the values
+     * @param values the values
+     * @param weights the weight of each value
+     * @return the sum of the weights of the values up to and including each one
+     */
+    private static <T> int[] totals(T[] values, Map<T, Integer> weights) {
+        int[] totals = new int[values.length];
+        int total = 0;
+        for (int i = 0; i < values.length; i++) {
+            total += weights.getOrDefault(values[i], 0);
+            totals[i] = total;
+        }
+        return totals;
+    }
+
+    /**
+     * Picks a position at random, in proportion to the weights the running totals add up.
+     *
+     * @param random the source of the random choices
+     * @param totals the running totals of the weights
+     * @return the position picked
+     */
+    private static int pick(Random random, int[] totals) {
+        int target = random.nextInt(totals[totals.length - 1]);
+        int i = 0;
+        while (totals[i] <= target) {
+            i++;
+        }
+        return i;
+    }
+}
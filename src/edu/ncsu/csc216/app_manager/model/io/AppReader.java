@@ -1,79 +1,942 @@
-package edu.ncsu.csc216.app_manager.model.io;
-
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
-
-import edu.ncsu.csc216.app_manager.model.application.Application;
-
-/**
- * The AppReader class reads applications from a file and converts it to Application objects.
- * 
- * @author Praneel Magapu
- */
-public class AppReader {
-
-	/**
-	 * Constructor
-	 */
-	public AppReader(){
-		//Intentionally empty constructor
-	}
-
-    /**
-     * Reads applications from a file and returns a list of applications.
-     * 
-     * @param fileName the name of the file to read from
-     * @return a List of Application objects
-     */
-    public static List<Application> readAppsFromFile(String fileName) {
-        List<Application> applications = new ArrayList<>();
-        try (Scanner fileReader = new Scanner(new FileInputStream(fileName))) {
-            fileReader.useDelimiter("\\r?\\n?[*]");
-            while (fileReader.hasNext()) {
-                applications.add(processApplication(fileReader.next()));
-            }
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("File not found: " + fileName);
-        }
-        return applications;
-    }
-
-
-    /**
-     * Processes an application and converts it from a string to an Application object.
-     * 
-     * @param appString the string with the applications
-     * @return the Application object from the string
-     * @throws IllegalArgumentException if the application cannot be created.
-     */
-    private static Application processApplication(String appString) {
-        try (Scanner appReader = new Scanner(appString)) {
-            appReader.useDelimiter(",");
-            ArrayList<String> notes = new ArrayList<>();
-            
-            int id = appReader.nextInt();
-            String state = appReader.next();
-            String appType = appReader.next();
-            String summary = appReader.next();
-            String reviewer = appReader.next();
-            boolean processPaperwork = appReader.nextBoolean();
-
-            appReader.useDelimiter("\n");
-            String fileResolution = appReader.next();
-            String resolution = fileResolution.length() > 1 ? fileResolution.substring(1) : "";
-
-            appReader.useDelimiter("\\r?\\n?[-]");
-            while (appReader.hasNext()) {
-                notes.add(appReader.next().trim());
-            }
-
-            return new Application(id, state, appType, summary, reviewer, processPaperwork, resolution, notes);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Error processing application.");
-        }
-    }
-
-}
\ No newline at end of file
+package edu.ncsu.csc216.app_manager.model.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * The AppReader class reads applications from a file and converts it to Application objects.
+ *
+ * Files are read in a single pass. A record starts at each '*', optionally preceded by a
+ * line break, and within a record the fields are separated by ',' and the notes start at
+ * each '-', again optionally preceded by a line break. Text files are read as UTF-8 by
+ * every reader, as AppWriter writes them, whatever the platform's default charset.
+ *
+ * Files written by AppWriter.writeAppsToBinaryFile are recognized by their magic bytes
+ * and read in the binary format described by BinaryFormat instead.
+ *
+ * @author Praneel Magapu
+ */
+public class AppReader {
+
+    /** Character that starts an application record */
+    private static final char RECORD_START = '*';
+
+    /** Character that separates the fields of a record */
+    private static final char FIELD_SEPARATOR = ',';
+
+    /** Character that starts a note */
+    private static final char NOTE_START = '-';
+
+    /** Number of characters read from the file at a time */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Largest part of a file that is memory-mapped at a time */
+    private static final int MAX_WINDOW = 1 << 30;
+
+    /** Smallest chunk a file is split into when it is read in parallel */
+    private static final int MIN_CHUNK = 1 << 20;
+
+    /** Number of chunks per thread, so that threads finishing early pick up more work */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** Number of binary records read between progress reports */
+    private static final int PROGRESS_INTERVAL = 1024;
+
+	/**
+	 * Constructor
+	 */
+	public AppReader(){
+		//Intentionally empty constructor
+	}
+
+    /**
+     * Reads applications from a file and returns a list of applications.
+     *
+     * @param fileName the name of the file to read from
+     * @return a List of Application objects
+     */
+    public static List<Application> readAppsFromFile(String fileName) {
+        if (BinaryFormat.isBinary(fileName)) {
+            return readAppsFromBinaryFile(fileName);
+        }
+        List<Application> applications = new ArrayList<>();
+        readRecords(fileName, record -> applications.add(processApplication(record)));
+        return applications;
+    }
+
+    /**
+     * Tells whether the given file is in the binary format written by
+     * AppWriter.writeAppsToBinaryFile rather than the text format.
+     *
+     * @param fileName the name of the file
+     * @return true if the file is a binary application file, false if it is not or cannot be read
+     */
+    public static boolean isBinaryFile(String fileName) {
+        return BinaryFormat.isBinary(fileName);
+    }
+
+    /**
+     * Reads applications from a file written by AppWriter.writeAppsToBinaryFile.
+     *
+     * @param fileName the name of the file to read from
+     * @return a List of Application objects, in file order
+     */
+    public static List<Application> readAppsFromBinaryFile(String fileName) {
+        List<Application> applications = new ArrayList<>();
+        readBinaryRecords(fileName, applications::add, bytes -> { });
+        return applications;
+    }
+
+    /**
+     * Reads applications from a file and hands them to the given consumer in batches as
+     * they are read, so the caller can use the first applications before the whole file
+     * has been read. After each buffer of the file the applications completed in it are
+     * passed on and the progress is reported.
+     *
+     * @param fileName the name of the file to read from
+     * @param batches the consumer of each batch of applications, in file order
+     * @param progress the listener told how much of the file has been read
+     * @throws CancellationException if the listener cancels the read
+     */
+    public static void readAppsFromFile(String fileName, Consumer<List<Application>> batches, ProgressListener progress) {
+        List<Application> batch = new ArrayList<>();
+        int[] records = new int[1];
+        LongConsumer afterBuffer = bytes -> {
+            if (!batch.isEmpty()) {
+                records[0] += batch.size();
+                batches.accept(new ArrayList<>(batch));
+                batch.clear();
+            }
+            if (!progress.progress(records[0], bytes)) {
+                throw new CancellationException("Reading " + fileName + " was cancelled.");
+            }
+        };
+        if (BinaryFormat.isBinary(fileName)) {
+            readBinaryRecords(fileName, batch::add, afterBuffer);
+        } else {
+            readRecords(fileName, record -> batch.add(processApplication(record)), afterBuffer);
+        }
+    }
+
+    /**
+     * Reads the change segments written by AppWriter.appendChangesToFile. Each record in a
+     * segment is either a full application, which replaces any earlier one with its id, or
+     * only an id, which marks the application with that id as deleted. Later records win.
+     * Records after the last segment end belong to an append that a crash cut short, so
+     * they are ignored, even if they cannot be parsed.
+     *
+     * @param fileName the name of the change segment to read from
+     * @return the final change for each id in the segments: the application, or null if it was deleted
+     */
+    public static Map<Integer, Application> readChangesFromFile(String fileName) {
+        Map<Integer, Application> changes = new HashMap<>();
+        Map<Integer, Application> segment = new HashMap<>();
+        // Set by a record that cannot be parsed, which is only an error if its segment ends
+        boolean[] invalid = new boolean[1];
+        readRecords(fileName, record -> {
+            String text = record.toString().trim();
+            if (text.equals(AppWriter.SEGMENT_END)) {
+                if (invalid[0]) {
+                    throw new IllegalArgumentException("Error processing application.");
+                }
+                changes.putAll(segment);
+                segment.clear();
+            } else if (text.indexOf(FIELD_SEPARATOR) == -1) {
+                try {
+                    segment.put(Integer.parseInt(text), null);
+                } catch (NumberFormatException e) {
+                    invalid[0] = true;
+                }
+            } else {
+                try {
+                    Application app = processApplication(record);
+                    segment.put(app.getAppId(), app);
+                } catch (IllegalArgumentException e) {
+                    invalid[0] = true;
+                }
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * Reads a file in a single pass and hands the text of each record to the given handler.
+     * The StringBuilder passed to the handler is reused for the next record.
+     *
+     * @param fileName the name of the file to read from
+     * @param handler the handler for each record, without the leading '*'
+     */
+    private static void readRecords(String fileName, Consumer<StringBuilder> handler) {
+        readRecords(fileName, handler, bytes -> { });
+    }
+
+    /**
+     * Reads a file in a single pass and hands the text of each record to the given handler,
+     * calling back after each buffer of the file with the number of bytes read so far. The
+     * last callback comes after the last record has been handled.
+     *
+     * @param fileName the name of the file to read from
+     * @param handler the handler for each record, without the leading '*'
+     * @param afterBuffer called with the number of bytes read after each buffer
+     */
+    private static void readRecords(String fileName, Consumer<StringBuilder> handler, LongConsumer afterBuffer) {
+        try (FileInputStream input = new FileInputStream(fileName);
+                Reader fileReader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            char[] buffer = new char[BUFFER_SIZE];
+            StringBuilder record = new StringBuilder();
+            boolean firstRecord = true;
+            int read = fileReader.read(buffer);
+            while (read != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != RECORD_START) {
+                        record.append(buffer[i]);
+                        continue;
+                    }
+                    // The line break before the '*' belongs to the separator, not the record
+                    record.setLength(separatorStart(record, 0, record.length()));
+                    // A separator at the very start of the file does not end a record
+                    if (!firstRecord || record.length() > 0) {
+                        handler.accept(record);
+                    }
+                    record.setLength(0);
+                    firstRecord = false;
+                }
+                afterBuffer.accept(input.getChannel().position());
+                read = fileReader.read(buffer);
+            }
+            if (record.length() > 0) {
+                handler.accept(record);
+            }
+            afterBuffer.accept(input.getChannel().position());
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("File not found: " + fileName);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read file: " + fileName);
+        }
+    }
+
+    /**
+     * Reads a binary file and hands each application to the given handler, calling back
+     * every PROGRESS_INTERVAL records, and once at the end, with the number of bytes read.
+     *
+     * @param fileName the name of the file to read from
+     * @param handler the handler for each application
+     * @param afterBatch called with the number of bytes read so far
+     */
+    private static void readBinaryRecords(String fileName, Consumer<Application> handler, LongConsumer afterBatch) {
+        try (FileInputStream file = new FileInputStream(fileName);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(file, BUFFER_SIZE))) {
+            long size = file.getChannel().size();
+            byte[] magic = new byte[BinaryFormat.MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, BinaryFormat.MAGIC)) {
+                throw new IllegalArgumentException("Error processing application.");
+            }
+            int version = in.readUnsignedByte();
+            if (version != BinaryFormat.VERSION) {
+                throw new IllegalArgumentException("Unsupported file version: " + version);
+            }
+            long bytes = magic.length + 1;
+            List<String> dictionary = new ArrayList<>();
+            byte[] record = new byte[256];
+            int records = 0;
+            int first = in.read();
+            while (first != -1) {
+                // The record length is a varint whose first byte has been read
+                int length = first & 0x7F;
+                int lengthBytes = 1;
+                for (int b = first; (b & 0x80) != 0; lengthBytes++) {
+                    if (lengthBytes == 5) {
+                        throw new IllegalArgumentException("Error processing application.");
+                    }
+                    b = in.readUnsignedByte();
+                    length |= (b & 0x7F) << (7 * lengthBytes);
+                }
+                // The length comes from the file, so a damaged one must not size the buffer
+                if (length < 0 || length > size - bytes - lengthBytes) {
+                    throw new IllegalArgumentException("Error processing application.");
+                }
+                if (record.length < length) {
+                    record = new byte[Math.max(length, record.length * 2)];
+                }
+                in.readFully(record, 0, length);
+                handler.accept(processBinaryApplication(ByteBuffer.wrap(record, 0, length), dictionary));
+                bytes += lengthBytes + length;
+                if (++records % PROGRESS_INTERVAL == 0) {
+                    afterBatch.accept(bytes);
+                }
+                first = in.read();
+            }
+            afterBatch.accept(bytes);
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("File not found: " + fileName);
+        } catch (EOFException e) {
+            // The file ends in the middle of a record
+            throw new IllegalArgumentException("Error processing application.");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read file: " + fileName);
+        }
+    }
+
+    /**
+     * Decodes an application from its binary record. A missing reviewer or resolution is
+     * read back as the empty field the text format would give.
+     *
+     * @param record the record, after its length
+     * @param dictionary the reviewers and note prefixes defined by earlier records, which
+     *        the record's new entries are added to
+     * @return the Application object from the record
+     * @throws IllegalArgumentException if the application cannot be created.
+     */
+    private static Application processBinaryApplication(ByteBuffer record, List<String> dictionary) {
+        try {
+            int id = readVarint(record);
+            String state = BinaryFormat.STATES[record.get()].getStateName();
+            String appType = BinaryFormat.TYPE_NAMES[record.get()];
+            boolean processPaperwork = record.get() != 0;
+            String resolution = BinaryFormat.RESOLUTIONS[record.get()];
+            String reviewer = readReference(record, dictionary);
+            String summary = readString(record);
+            int count = readVarint(record);
+            ArrayList<String> notes = new ArrayList<>(Math.min(count, record.remaining()));
+            for (int i = 0; i < count; i++) {
+                String prefix = readReference(record, dictionary);
+                String rest = readString(record);
+                notes.add(prefix == null ? rest : prefix + rest);
+            }
+            if (record.hasRemaining()) {
+                throw new InputMismatchException();
+            }
+            return new Application(id, state, appType, summary, reviewer == null ? "" : reviewer,
+                    processPaperwork, resolution == null ? "" : resolution, notes);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error processing application.");
+        }
+    }
+
+    /**
+     * Reads a dictionary reference from a binary record, adding the string that follows a
+     * new entry to the dictionary.
+     *
+     * @param record the record to read from
+     * @param dictionary the strings defined so far
+     * @return the referenced string, or null for BinaryFormat.NONE
+     */
+    private static String readReference(ByteBuffer record, List<String> dictionary) {
+        int reference = readVarint(record);
+        if (reference == BinaryFormat.NONE) {
+            return null;
+        }
+        if (reference == BinaryFormat.NEW_ENTRY) {
+            String entry = readString(record);
+            dictionary.add(entry);
+            return entry;
+        }
+        return dictionary.get(reference - BinaryFormat.FIRST_ENTRY);
+    }
+
+    /**
+     * Reads an unsigned varint from a binary record.
+     *
+     * @param record the record to read from
+     * @return the value, which is negative only if the varint was damaged
+     * @throws InputMismatchException if the varint is longer than an int
+     */
+    private static int readVarint(ByteBuffer record) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = record.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new InputMismatchException();
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string from a binary record.
+     *
+     * @param record the record to read from
+     * @return the string
+     * @throws InputMismatchException if the length runs past the end of the record
+     */
+    private static String readString(ByteBuffer record) {
+        int length = readVarint(record);
+        if (length < 0 || length > record.remaining()) {
+            throw new InputMismatchException();
+        }
+        String value = new String(record.array(), record.arrayOffset() + record.position(), length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads applications from a file by memory-mapping it and parsing the records straight
+     * out of the mapped bytes. Only the bytes of each field are decoded, as UTF-8, into
+     * Strings, so the heap holds the parsed applications but never the file contents.
+     * Files larger than the mapping window are mapped in windows that start at a record.
+     *
+     * @param fileName the name of the file to read from
+     * @return a List of Application objects
+     */
+    public static List<Application> readAppsFromMappedFile(String fileName) {
+        if (BinaryFormat.isBinary(fileName)) {
+            return readAppsFromBinaryFile(fileName);
+        }
+        List<Application> applications = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long windowStart = 0;
+            while (windowStart < size) {
+                int windowLength = (int) Math.min(MAX_WINDOW, size - windowStart);
+                MappedText text = new MappedText(channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength), 0, windowLength);
+                int recordStart = parseRecords(text, windowStart == 0, applications);
+                if (windowStart + windowLength == size) {
+                    if (recordStart < windowLength) {
+                        applications.add(processApplication(text.view(recordStart, windowLength)));
+                    }
+                    break;
+                }
+                if (recordStart == 0) {
+                    throw new IllegalArgumentException("Error processing application.");
+                }
+                // Map the next window from the start of the unfinished record
+                windowStart += recordStart;
+            }
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("File not found: " + fileName);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read file: " + fileName);
+        }
+        return applications;
+    }
+
+    /**
+     * Reads applications from a file by splitting it into chunks that start at a record and
+     * parsing the chunks concurrently on the common ForkJoinPool.
+     *
+     * @param fileName the name of the file to read from
+     * @return a List of Application objects, sorted by id
+     */
+    public static List<Application> readAppsFromFileInParallel(String fileName) {
+        return readAppsFromFileInParallel(fileName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads applications from a file by splitting it into chunks that start at a record and
+     * parsing the chunks concurrently on the given pool. Each chunk is memory-mapped and
+     * parsed as in readAppsFromMappedFile and sorted by id, and the sorted chunks are then
+     * merged. Applications with the same id keep their order in the file, so the list can
+     * be handed straight to AppList.addApps.
+     *
+     * @param fileName the name of the file to read from
+     * @param pool the pool to parse the chunks on
+     * @return a List of Application objects, sorted by id
+     */
+    public static List<Application> readAppsFromFileInParallel(String fileName, ForkJoinPool pool) {
+        return readAppsFromFileInParallel(fileName, pool, MIN_CHUNK);
+    }
+
+    /**
+     * Reads applications from a file in parallel as readAppsFromFileInParallel does, with
+     * the given smallest chunk size, so tests can split small files into many chunks.
+     *
+     * @param fileName the name of the file to read from
+     * @param pool the pool to parse the chunks on
+     * @param minChunk the fewest bytes in a chunk, apart from the last
+     * @return a List of Application objects, sorted by id
+     */
+    static List<Application> readAppsFromFileInParallel(String fileName, ForkJoinPool pool, int minChunk) {
+        if (BinaryFormat.isBinary(fileName)) {
+            // Binary records are cheap to decode, so they are read in one pass and sorted
+            List<Application> applications = readAppsFromBinaryFile(fileName);
+            applications.sort(Comparator.comparingInt(Application::getAppId));
+            return applications;
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] starts = chunkStarts(channel, size, pool.getParallelism(), minChunk);
+            // The pool rethrows exceptions from other threads wrapped, so the original is kept here
+            AtomicReference<IllegalArgumentException> failure = new AtomicReference<>();
+            List<Callable<List<Application>>> tasks = new ArrayList<>();
+            for (int i = 0; i < starts.length; i++) {
+                long chunkStart = starts[i];
+                long chunkEnd = i + 1 < starts.length ? starts[i + 1] : size;
+                if (chunkEnd - chunkStart > MAX_WINDOW) {
+                    throw new IllegalArgumentException("Error processing application.");
+                }
+                tasks.add(() -> {
+                    try {
+                        return parseChunk(channel, chunkStart, (int) (chunkEnd - chunkStart), chunkEnd == size);
+                    } catch (IllegalArgumentException e) {
+                        failure.compareAndSet(null, e);
+                        return new ArrayList<>();
+                    }
+                });
+            }
+            List<List<Application>> chunks = new ArrayList<>();
+            for (Future<List<Application>> chunk : pool.invokeAll(tasks)) {
+                chunks.add(chunk.get());
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            return mergeById(chunks);
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("File not found: " + fileName);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read file: " + fileName);
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException("Unable to read file: " + fileName);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException("Unable to read file: " + fileName);
+        }
+    }
+
+    /**
+     * Splits a file into about as many chunks as the pool can parse at once, and no more than
+     * one per minChunk bytes. Every chunk except the first starts just after a '*', so the
+     * previous chunk ends with the '*' that closes its last record.
+     *
+     * @param channel the channel of the file
+     * @param size the size of the file
+     * @param parallelism the number of threads parsing the chunks
+     * @param minChunk the fewest bytes in a chunk, apart from the last
+     * @return the start of each chunk
+     * @throws IOException if the file cannot be read
+     */
+    private static long[] chunkStarts(FileChannel channel, long size, int parallelism, int minChunk) throws IOException {
+        long chunks = Math.max(Math.min(size / minChunk, (long) parallelism * CHUNKS_PER_THREAD), size / MAX_WINDOW + 1);
+        List<Long> starts = new ArrayList<>();
+        starts.add(0L);
+        ByteBuffer block = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = 0;
+        for (long i = 1; i < chunks; i++) {
+            position = Math.max(position, size / chunks * i);
+            long recordStart = -1;
+            while (recordStart == -1 && position < size) {
+                block.clear();
+                int read = channel.read(block, position);
+                for (int j = 0; j < read && recordStart == -1; j++) {
+                    if (block.get(j) == RECORD_START) {
+                        recordStart = position + j;
+                    }
+                }
+                position = recordStart == -1 ? position + read : recordStart + 1;
+            }
+            if (recordStart == -1) {
+                break;
+            }
+            starts.add(recordStart + 1);
+        }
+        long[] result = new long[starts.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = starts.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Parses the records of one chunk of a file and sorts them by id.
+     *
+     * @param channel the channel of the file
+     * @param start the start of the chunk
+     * @param length the length of the chunk
+     * @param lastChunk true if the chunk ends the file
+     * @return the applications in the chunk, sorted by id
+     * @throws IOException if the chunk cannot be mapped
+     */
+    private static List<Application> parseChunk(FileChannel channel, long start, int length, boolean lastChunk) throws IOException {
+        List<Application> applications = new ArrayList<>();
+        MappedText text = new MappedText(channel.map(FileChannel.MapMode.READ_ONLY, start, length), 0, length);
+        int recordStart = parseRecords(text, start == 0, applications);
+        if (lastChunk && recordStart < length) {
+            applications.add(processApplication(text.view(recordStart, length)));
+        }
+        applications.sort(Comparator.comparingInt(Application::getAppId));
+        return applications;
+    }
+
+    /**
+     * Merges lists of applications sorted by id into a single sorted list. Applications
+     * with the same id are taken from the earlier list first.
+     *
+     * @param lists the sorted lists to merge
+     * @return the merged list
+     */
+    private static List<Application> mergeById(List<List<Application>> lists) {
+        int total = 0;
+        for (List<Application> list : lists) {
+            total += list.size();
+        }
+        List<Application> merged = new ArrayList<>(total);
+        int[] next = new int[lists.size()];
+        // Holds the index of each list that has applications left, ordered by its next id
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, lists.size()),
+                Comparator.comparingInt((Integer i) -> lists.get(i).get(next[i]).getAppId()).thenComparingInt(i -> i));
+        for (int i = 0; i < lists.size(); i++) {
+            if (!lists.get(i).isEmpty()) {
+                heads.add(i);
+            }
+        }
+        while (!heads.isEmpty()) {
+            int i = heads.poll();
+            merged.add(lists.get(i).get(next[i]++));
+            if (next[i] < lists.get(i).size()) {
+                heads.add(i);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Parses every record that is closed by a '*' in the given text.
+     *
+     * @param text the text to parse
+     * @param fileStart true if the text starts at the beginning of the file
+     * @param applications the list to add the parsed applications to
+     * @return the start of the record after the last '*', which is still unfinished
+     */
+    private static int parseRecords(MappedText text, boolean fileStart, List<Application> applications) {
+        int recordStart = 0;
+        boolean firstRecord = fileStart;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != RECORD_START) {
+                continue;
+            }
+            int recordEnd = separatorStart(text, recordStart, i);
+            // A separator at the very start of the file does not end a record
+            if (!firstRecord || recordEnd > 0) {
+                applications.add(processApplication(text.view(recordStart, recordEnd)));
+            }
+            recordStart = i + 1;
+            firstRecord = false;
+        }
+        return recordStart;
+    }
+
+    /**
+     * Processes an application and converts it from its text to an Application object.
+     *
+     * @param appText the text of the application, without the leading '*'
+     * @return the Application object from the text
+     * @throws IllegalArgumentException if the application cannot be created.
+     */
+    private static Application processApplication(CharSequence appText) {
+        try {
+            RecordTokenizer appReader = new RecordTokenizer(appText);
+            ArrayList<String> notes = new ArrayList<>();
+
+            int id = Integer.parseInt(appReader.nextField());
+            String state = appReader.nextField();
+            String appType = appReader.nextField();
+            String summary = appReader.nextField();
+            String reviewer = appReader.nextField();
+            boolean processPaperwork;
+            // Applications that were never given a reviewer are written without the field
+            if (isBoolean(reviewer) && !isBoolean(appReader.peekField())) {
+                processPaperwork = parseBoolean(reviewer);
+                reviewer = "";
+            } else {
+                processPaperwork = parseBoolean(appReader.nextField());
+            }
+
+            String fileResolution = appReader.nextLine();
+            String resolution = fileResolution.length() > 1 ? fileResolution.substring(1).trim() : "";
+            // AppWriter ends the resolution with a comma, as it does every other field
+            if (resolution.endsWith(",")) {
+                resolution = resolution.substring(0, resolution.length() - 1);
+            }
+
+            String note = appReader.nextNote();
+            while (note != null) {
+                notes.add(note.trim());
+                note = appReader.nextNote();
+            }
+
+            return new Application(id, state, appType, summary, reviewer, processPaperwork, resolution, notes);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error processing application.");
+        }
+    }
+
+    /**
+     * Returns whether a field holds a processed flag, ignoring case.
+     *
+     * @param field the field
+     * @return true if the field is true or false
+     */
+    private static boolean isBoolean(String field) {
+        return "true".equalsIgnoreCase(field) || "false".equalsIgnoreCase(field);
+    }
+
+    /**
+     * Parses a processed flag, ignoring case.
+     *
+     * @param field the field holding the flag
+     * @return the value of the flag
+     * @throws InputMismatchException if the field is neither true nor false
+     */
+    private static boolean parseBoolean(String field) {
+        if ("true".equalsIgnoreCase(field)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(field)) {
+            return false;
+        }
+        throw new InputMismatchException();
+    }
+
+    /**
+     * Returns the length of the separator that starts at the given position. A separator is
+     * the given character, optionally preceded by "\r", "\n" or "\r\n".
+     *
+     * @param text the text to look in
+     * @param position the position the separator starts at
+     * @param end the end of the text to look in
+     * @param separator the character that ends the separator
+     * @return the length of the separator, or 0 if there is no separator at the position
+     */
+    private static int separatorLength(CharSequence text, int position, int end, char separator) {
+        int i = position;
+        if (i < end && text.charAt(i) == '\r') {
+            i++;
+        }
+        if (i < end && text.charAt(i) == '\n') {
+            i++;
+        }
+        if (i < end && text.charAt(i) == separator) {
+            return i + 1 - position;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns where the separator ending just before the given position starts, that is the
+     * position with any "\r", "\n" or "\r\n" before it stepped over.
+     *
+     * @param text the text to look in
+     * @param start the earliest position the separator may start at
+     * @param position the position of the separator character
+     * @return the start of the separator
+     */
+    private static int separatorStart(CharSequence text, int start, int position) {
+        int i = position;
+        if (i > start && text.charAt(i - 1) == '\n') {
+            i--;
+        }
+        if (i > start && text.charAt(i - 1) == '\r') {
+            i--;
+        }
+        return i;
+    }
+
+    /**
+     * Splits the text of a single record into its fields, resolution and notes.
+     * Each method reads from where the previous one stopped.
+     */
+    private static class RecordTokenizer {
+
+        /** Text of the record */
+        private final CharSequence text;
+
+        /** Length of the record text */
+        private final int length;
+
+        /** Position of the next separator or token */
+        private int position;
+
+        /**
+         * Constructs a RecordTokenizer for the given record text.
+         *
+         * @param text the text of the record
+         */
+        RecordTokenizer(CharSequence text) {
+            this.text = text;
+            this.length = text.length();
+            this.position = 0;
+        }
+
+        /**
+         * Returns the next comma separated field.
+         *
+         * @return the next field
+         * @throws NoSuchElementException if the record has no more text
+         */
+        String nextField() {
+            if (position < length && text.charAt(position) == FIELD_SEPARATOR) {
+                position++;
+            }
+            int end = position;
+            while (end < length && text.charAt(end) != FIELD_SEPARATOR) {
+                end++;
+            }
+            return next(end);
+        }
+
+        /**
+         * Returns the next comma separated field without moving past it.
+         *
+         * @return the next field
+         * @throws NoSuchElementException if the record has no more text
+         */
+        String peekField() {
+            int start = position;
+            String field = nextField();
+            position = start;
+            return field;
+        }
+
+        /**
+         * Returns the text up to the end of the current line, including the separator
+         * that ended the previous field.
+         *
+         * @return the rest of the line
+         * @throws NoSuchElementException if the record has no more text
+         */
+        String nextLine() {
+            if (position < length && text.charAt(position) == '\n') {
+                position++;
+            }
+            int end = position;
+            while (end < length && text.charAt(end) != '\n') {
+                end++;
+            }
+            return next(end);
+        }
+
+        /**
+         * Returns the next note, without its leading '-'.
+         *
+         * @return the next note, or null if the record has no more notes
+         */
+        String nextNote() {
+            position += separatorLength(text, position, length, NOTE_START);
+            if (position == length) {
+                return null;
+            }
+            int end = position;
+            while (end < length && text.charAt(end) != NOTE_START) {
+                end++;
+            }
+            if (end < length) {
+                end = separatorStart(text, position, end);
+            }
+            return next(end);
+        }
+
+        /**
+         * Returns the text from the current position to the given end and moves past it.
+         *
+         * @param end the end of the token
+         * @return the token
+         * @throws NoSuchElementException if the record has no more text
+         */
+        private String next(int end) {
+            if (position == length) {
+                throw new NoSuchElementException();
+            }
+            String token = text.subSequence(position, end).toString();
+            position = end;
+            return token;
+        }
+    }
+
+    /**
+     * Byte-indexed view of part of a mapped file. Each byte reads as one char, which is
+     * exact for the ASCII separators the parser looks for, since no byte of a multi-byte
+     * UTF-8 character is ASCII. subSequence decodes the bytes in the range as UTF-8,
+     * so the String it returns may be shorter than the range.
+     */
+    private static class MappedText implements CharSequence {
+
+        /** Mapped bytes of the file */
+        private final ByteBuffer bytes;
+
+        /** Position of the first byte of the view */
+        private final int offset;
+
+        /** Number of bytes in the view */
+        private final int length;
+
+        /**
+         * Constructs a MappedText over the given range of bytes.
+         *
+         * @param bytes the mapped bytes
+         * @param offset the position of the first byte
+         * @param length the number of bytes
+         */
+        MappedText(ByteBuffer bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns a view of part of this view.
+         *
+         * @param start the start of the part, inclusive
+         * @param end the end of the part, exclusive
+         * @return a view of the part
+         */
+        MappedText view(int start, int end) {
+            return new MappedText(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            byte[] field = new byte[end - start];
+            bytes.get(offset + start, field);
+            return new String(field, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length).toString();
+        }
+    }
+
+}
@@ -1,40 +1,443 @@
-package edu.ncsu.csc216.app_manager.model.io;
-
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.List;
-import edu.ncsu.csc216.app_manager.model.application.Application;
-
-/**
- * Writes application data to a file.
- * @author Praneel Magapu
- * 
- */
-public class AppWriter {
-
-
-    /**
-     * Writes the list of applications to the specified file.
-     * 
-     * @param fileName the name of the file to write to
-     * @param apps the list of applications to write
-     */
-    public static void writeAppsToFile(String fileName, List<Application> apps) {
-    	
-    	if (fileName == null || fileName.isEmpty()) {
-            throw new IllegalArgumentException("Unable to save file");
-        }
-        if (apps == null) {
-            throw new IllegalArgumentException("Unable to save file");
-        }
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName))) {
-            for (Application app : apps) {
-                writer.write(app.toString());
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Unable to save file.");
-        }
-    }
+package edu.ncsu.csc216.app_manager.model.io;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Writes application data to a file. Text files are always written as UTF-8, which is
+ * how AppReader reads them.
+ * @author Praneel Magapu
+ * 
+ */
+public class AppWriter {
+
+    /** Size of the buffer records are encoded into before they are written */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Direct buffer of each writing thread, kept so that it is allocated only once */
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    /** Number of records written between progress reports */
+    private static final int PROGRESS_INTERVAL = 1024;
+
+    /** Suffix of the temporary file a file is written to before it replaces the original */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Text of the record that ends each change segment, which no application record can be */
+    static final String SEGMENT_END = ".";
+
+    /** Bytes of the record that ends each change segment */
+    private static final byte[] SEGMENT_END_BYTES = ("*" + SEGMENT_END).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Writes the list of applications to the specified file.
+     * 
+     * @param fileName the name of the file to write to
+     * @param apps the list of applications to write
+     */
+    public static void writeAppsToFile(String fileName, List<Application> apps) {
+    	
+    	if (fileName == null || fileName.isEmpty()) {
+            throw new IllegalArgumentException("Unable to save file");
+        }
+        if (apps == null) {
+            throw new IllegalArgumentException("Unable to save file");
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName, StandardCharsets.UTF_8))) {
+            for (Application app : apps) {
+                app.appendTo(writer);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+    }
+
+    /**
+     * Appends a change segment to the specified file, creating it if needed. Each changed
+     * application is written as a full record and each deleted application as a record
+     * holding only its id. AppReader.readChangesFromFile reads the segment back.
+     * 
+     * The segment ends with a SEGMENT_END record and is forced to disk, and the reader
+     * ignores records after the last SEGMENT_END, so a crash in the middle of an append
+     * loses only that append. Whatever such a crash left is cut off before the next
+     * append, so it is never taken for part of a later segment.
+     * 
+     * @param fileName the name of the change segment to append to
+     * @param changedApps the applications that were added or changed
+     * @param deletedIds the ids of the applications that were deleted
+     */
+    public static void appendChangesToFile(String fileName, List<Application> changedApps, List<Integer> deletedIds) {
+        if (fileName == null || fileName.isEmpty() || changedApps == null || deletedIds == null) {
+            throw new IllegalArgumentException("Unable to save file");
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long end = segmentsEnd(channel);
+            channel.truncate(end);
+            channel.position(end);
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1));
+            for (Application app : changedApps) {
+                app.appendTo(writer);
+                writer.newLine();
+            }
+            for (int id : deletedIds) {
+                writer.write("*" + id);
+                writer.newLine();
+            }
+            writer.write("*" + SEGMENT_END);
+            writer.newLine();
+            writer.flush();
+            channel.force(false);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+    }
+
+    /**
+     * Finds the end of the last complete segment of a change file. A file that ends with
+     * a SEGMENT_END record, as it does unless an append was cut short, is read only at
+     * its end; otherwise the file is searched backwards for the last SEGMENT_END.
+     * 
+     * @param channel the channel of the change file
+     * @return the length of the file up to the end of its last complete segment
+     * @throws IOException if the file cannot be read
+     */
+    private static long segmentsEnd(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer block = ByteBuffer.allocate(8192);
+        // Each block overlaps the one after it, so a SEGMENT_END across their boundary is found
+        long blockEnd = size;
+        boolean last = true;
+        while (blockEnd > 0) {
+            long blockStart = Math.max(0, blockEnd - block.capacity());
+            block.clear();
+            block.limit((int) (blockEnd - blockStart));
+            while (block.hasRemaining() && channel.read(block, blockStart + block.position()) != -1) {
+                // Read the whole block
+            }
+            int i = block.position() - 1;
+            if (last) {
+                // The line break after the last SEGMENT_END does not make the segment incomplete
+                while (i >= 0 && (block.get(i) == '\n' || block.get(i) == '\r')) {
+                    i--;
+                }
+                if (endsWith(block, i)) {
+                    return size;
+                }
+                last = false;
+            }
+            for (; i >= SEGMENT_END_BYTES.length - 1; i--) {
+                if (endsWith(block, i)) {
+                    return blockStart + i + 1;
+                }
+            }
+            if (blockStart == 0) {
+                break;
+            }
+            blockEnd = blockStart + SEGMENT_END_BYTES.length - 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Tells whether the SEGMENT_END record ends at the given index of a block.
+     * 
+     * @param block the block
+     * @param index the index of the last byte to compare
+     * @return true if the bytes up to and including the index are a SEGMENT_END record
+     */
+    private static boolean endsWith(ByteBuffer block, int index) {
+        int start = index - SEGMENT_END_BYTES.length + 1;
+        if (start < 0) {
+            return false;
+        }
+        for (int j = 0; j < SEGMENT_END_BYTES.length; j++) {
+            if (block.get(start + j) != SEGMENT_END_BYTES[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the applications to the specified file as they are iterated, without copying
+     * them into a list or building a String per record. Each record is appended into a
+     * reused StringBuilder, encoded straight into a large direct buffer, and the buffer is
+     * written to the file channel whenever it fills up. The file has the same contents as
+     * one written by writeAppsToFile.
+     * 
+     * @param fileName the name of the file to write to
+     * @param apps the applications to write
+     */
+    public static void streamAppsToFile(String fileName, Iterable<Application> apps) {
+        if (fileName == null || fileName.isEmpty() || apps == null) {
+            throw new IllegalArgumentException("Unable to save file");
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            stream(channel, apps, (records, bytes) -> true);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+    }
+
+    /**
+     * Writes the applications to the specified file as streamAppsToFile does, reporting
+     * the progress to the given listener. The applications are written to a temporary
+     * file next to the specified one, which replaces it only once every application has
+     * been written, so a save that fails or is cancelled leaves the original file as it was.
+     * The temporary file is forced to disk before the rename and the directory after it,
+     * so a crash of the system leaves either the old or the new file, never an empty one.
+     * 
+     * @param fileName the name of the file to write to
+     * @param apps the applications to write
+     * @param progress the listener told how many applications have been written
+     * @throws CancellationException if the listener cancels the write
+     */
+    public static void streamAppsToFile(String fileName, Iterable<Application> apps, ProgressListener progress) {
+        if (fileName == null || fileName.isEmpty() || apps == null || progress == null) {
+            throw new IllegalArgumentException("Unable to save file");
+        }
+        Path target = Paths.get(fileName);
+        Path temp = Paths.get(fileName + TEMP_SUFFIX);
+        boolean written = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                stream(channel, apps, progress);
+                // Otherwise the rename may reach the disk before the contents do
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            written = true;
+            forceDirectory(target.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        } finally {
+            if (!written) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    // The temporary file is overwritten by the next save
+                }
+            }
+        }
+    }
+
+    /**
+     * Forces the entries of the given directory to disk, so a file renamed into it stays
+     * renamed after a crash. Some systems, such as Windows, cannot open a directory, in
+     * which case the rename is left to the file system.
+     * 
+     * @param directory the directory to force, or null for none
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported here, as on Windows
+        }
+    }
+
+    /**
+     * Writes the applications to the specified file in the binary format described by
+     * BinaryFormat. The file is smaller than the text file and faster to read and write,
+     * since states, types and resolutions are single bytes and each reviewer and note
+     * prefix is written only once. AppReader reads it back into the same applications.
+     * 
+     * @param fileName the name of the file to write to
+     * @param apps the applications to write
+     */
+    public static void writeAppsToBinaryFile(String fileName, Iterable<Application> apps) {
+        if (fileName == null || fileName.isEmpty() || apps == null) {
+            throw new IllegalArgumentException("Unable to save file");
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName), 1 << 16))) {
+            out.write(BinaryFormat.MAGIC);
+            out.writeByte(BinaryFormat.VERSION);
+            Map<String, Integer> dictionary = new HashMap<>();
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (Application app : apps) {
+                recordBytes.reset();
+                writeVarint(record, app.getAppId());
+                record.writeByte(BinaryFormat.code(BinaryFormat.STATES, app.getState()));
+                record.writeByte(BinaryFormat.code(BinaryFormat.TYPES, app.getType()));
+                record.writeBoolean(app.isProcessed());
+                record.writeByte(BinaryFormat.code(BinaryFormat.RESOLUTIONS, app.getResolution()));
+                writeReference(record, dictionary, app.getReviewer());
+                writeString(record, app.getSummary());
+                List<String> notes = app.getNotes();
+                writeVarint(record, notes.size());
+                for (String note : notes) {
+                    int prefix = BinaryFormat.prefixLength(note);
+                    writeReference(record, dictionary, prefix == 0 ? null : note.substring(0, prefix));
+                    writeString(record, note.substring(prefix));
+                }
+                record.flush();
+                writeVarint(out, recordBytes.size());
+                recordBytes.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+    }
+
+    /**
+     * Writes a reference to the given string, adding the string to the dictionary the first
+     * time it is written.
+     * 
+     * @param out the record to write to
+     * @param dictionary the index of each string written so far
+     * @param value the string, or null for none
+     * @throws IOException if the record cannot be written to
+     */
+    private static void writeReference(DataOutputStream out, Map<String, Integer> dictionary, String value) throws IOException {
+        if (value == null) {
+            writeVarint(out, BinaryFormat.NONE);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarint(out, BinaryFormat.FIRST_ENTRY + index);
+            return;
+        }
+        dictionary.put(value, dictionary.size());
+        writeVarint(out, BinaryFormat.NEW_ENTRY);
+        writeString(out, value);
+    }
+
+    /**
+     * Writes a string as its UTF-8 length followed by its UTF-8 bytes.
+     * 
+     * @param out the record to write to
+     * @param value the string
+     * @throws IOException if the record cannot be written to
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative int as an unsigned varint, seven bits to a byte.
+     * 
+     * @param out the output to write to
+     * @param value the value to write
+     * @throws IOException if the output cannot be written to
+     */
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Encodes the applications into the thread's buffer and writes them to the channel,
+     * reporting the progress every PROGRESS_INTERVAL applications and at the end.
+     * 
+     * @param channel the channel to write to
+     * @param apps the applications to write
+     * @param progress the listener told how many applications have been written
+     * @throws IOException if the channel cannot be written to
+     * @throws CancellationException if the listener cancels the write
+     */
+    private static void stream(FileChannel channel, Iterable<Application> apps, ProgressListener progress) throws IOException {
+        // Match writeAppsToFile, and AppReader, which reads every text file as UTF-8
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        String lineSeparator = System.lineSeparator();
+        ByteBuffer buffer = BUFFER.get();
+        buffer.clear();
+        try {
+            StringBuilder record = new StringBuilder();
+            int records = 0;
+            for (Application app : apps) {
+                record.setLength(0);
+                app.appendTo(record);
+                record.append(lineSeparator);
+                encode(encoder, CharBuffer.wrap(record), buffer, channel);
+                if (++records % PROGRESS_INTERVAL == 0 && !progress.progress(records, channel.position() + buffer.position())) {
+                    throw new CancellationException("Saving was cancelled.");
+                }
+            }
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            while (encoder.flush(buffer).isOverflow()) {
+                drain(buffer, channel);
+            }
+            drain(buffer, channel);
+            progress.progress(records, channel.position());
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Encodes the given characters into the buffer, writing the buffer to the channel each
+     * time it fills up.
+     * 
+     * @param encoder the encoder for the file's charset
+     * @param chars the characters to encode
+     * @param buffer the buffer to encode into
+     * @param channel the channel to write full buffers to
+     * @throws IOException if the channel cannot be written to
+     */
+    private static void encode(CharsetEncoder encoder, CharBuffer chars, ByteBuffer buffer, FileChannel channel) throws IOException {
+        CoderResult result = encoder.encode(chars, buffer, false);
+        while (result.isOverflow()) {
+            drain(buffer, channel);
+            result = encoder.encode(chars, buffer, false);
+        }
+    }
+
+    /**
+     * Writes everything in the buffer to the channel and empties the buffer.
+     * 
+     * @param buffer the buffer to write
+     * @param channel the channel to write to
+     * @throws IOException if the channel cannot be written to
+     */
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+
+/**
+ * Layout of the binary application file, shared by AppReader and AppWriter.
+ *
+ * A binary file starts with MAGIC and a version byte, followed by one record per
+ * application. Each record starts with the length of the rest of the record, then holds
+ * the id, the state, type, processed flag and resolution as one byte each, a reference to
+ * the reviewer, the summary, the number of notes, and for each note a reference to its
+ * prefix, such as "[Review]", followed by the rest of the note. Lengths, ids, counts and
+ * references are unsigned varints, seven bits to a byte with the high bit set on all but
+ * the last byte, and strings are a varint byte length followed by UTF-8 bytes.
+ *
+ * Reviewers and note prefixes repeat across a file, so each is written in full only the
+ * first time: a reference is either NONE, NEW_ENTRY followed by a string that becomes the
+ * next dictionary entry, or FIRST_ENTRY plus the index of an earlier dictionary entry.
+ * The codes of the states, types and resolutions are their positions in the arrays
+ * below, which must only ever be appended to.
+ *
+ * @author Praneel Magapu
+ */
+final class BinaryFormat {
+
+    /** Bytes every binary file starts with */
+    static final byte[] MAGIC = { 'A', 'P', 'P', 'B' };
+
+    /** Version of the format written by AppWriter */
+    static final byte VERSION = 1;
+
+    /** Reference to no string: a missing reviewer or a note without a prefix */
+    static final int NONE = 0;
+
+    /** Reference that is followed by a new dictionary entry */
+    static final int NEW_ENTRY = 1;
+
+    /** Reference to the first dictionary entry; later entries follow it */
+    static final int FIRST_ENTRY = 2;
+
+    /** States by code */
+    static final AppState[] STATES = { AppState.REVIEW, AppState.INTERVIEW, AppState.WAITLIST,
+        AppState.REFCHK, AppState.OFFER, AppState.CLOSED };
+
+    /** Application types by code */
+    static final AppType[] TYPES = { AppType.NEW, AppType.OLD, AppType.HIRED };
+
+    /** Type names by code */
+    static final String[] TYPE_NAMES = { Application.A_NEW, Application.A_OLD, Application.A_HIRED };
+
+    /** Resolution names by code, with code 0 for no resolution */
+    static final String[] RESOLUTIONS = { null, Command.R_REVCOMPLETED, Command.R_INTCOMPLETED,
+        Command.R_REFCHKCOMPLETED, Command.R_OFFERCOMPLETED };
+
+    /**
+     * Prevents instantiation.
+     */
+    private BinaryFormat() {
+        // Only constants and helpers
+    }
+
+    /**
+     * Tells whether the given file starts with the binary format's magic bytes.
+     *
+     * @param fileName the name of the file
+     * @return true if the file is a binary application file, false if it is not or cannot be read
+     */
+    static boolean isBinary(String fileName) {
+        try (InputStream in = new FileInputStream(fileName)) {
+            byte[] header = new byte[MAGIC.length];
+            int read = 0;
+            while (read < header.length) {
+                int n = in.read(header, read, header.length - read);
+                if (n == -1) {
+                    return false;
+                }
+                read += n;
+            }
+            return Arrays.equals(header, MAGIC);
+        } catch (IOException e) {
+            // Let the text reader report the missing file
+            return false;
+        }
+    }
+
+    /**
+     * Returns the length of the prefix of a note, such as "[Review]", which is shared by
+     * many notes and so kept in the dictionary.
+     *
+     * @param note the note
+     * @return the length of the prefix up to and including its ']', or 0 if the note has none
+     */
+    static int prefixLength(String note) {
+        if (note.isEmpty() || note.charAt(0) != '[') {
+            return 0;
+        }
+        return note.indexOf(']') + 1;
+    }
+
+    /**
+     * Returns the code of the given value in a code table.
+     *
+     * @param table the values by code
+     * @param value the value to look up
+     * @return the code of the value
+     * @throws IllegalArgumentException if the table has no code for the value
+     */
+    static byte code(Object[] table, Object value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == null ? value == null : table[i].equals(value)) {
+                return (byte) i;
+            }
+        }
+        throw new IllegalArgumentException("Unable to save file.");
+    }
+}
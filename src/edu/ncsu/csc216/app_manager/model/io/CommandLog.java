@@ -0,0 +1,540 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * Append-only log of the changes made to an application list since its last snapshot.
+ * Each added application, executed Command and deleted application is appended as an
+ * entry, as is every field of each application merged in from another file. Entries
+ * are forced to disk in groups: once groupSize entries are waiting, or at most maxDelay
+ * after the first of them was appended. replay reads the entries back so they can be
+ * applied on top of the snapshot after a crash.
+ *
+ * Each entry is framed by its length and a CRC32 of its contents, so an entry that was
+ * only partly written when the process died ends the replay instead of corrupting it.
+ * A write that fails keeps the waiting entries and cuts the log back to the end of the
+ * last complete write, so the next sync writes each entry once. A failure of the
+ * background flush is recorded and returned by getFailure rather than ending the flushes.
+ *
+ * @author Praneel Magapu
+ */
+public class CommandLog {
+
+    /** Entry type for an added application */
+    private static final byte ADD = 1;
+
+    /** Entry type for an executed command */
+    private static final byte COMMAND = 2;
+
+    /** Entry type for a deleted application */
+    private static final byte DELETE = 3;
+
+    /** Entry type for an application loaded from another file, with all of its fields */
+    private static final byte LOAD = 4;
+
+    /** Default number of entries forced to disk together */
+    public static final int DEFAULT_GROUP_SIZE = 64;
+
+    /** Default longest time, in milliseconds, an entry waits to be forced to disk */
+    public static final long DEFAULT_MAX_DELAY = 10;
+
+    /** Channel the log is appended to */
+    private final FileChannel channel;
+
+    /** Number of entries that are forced to disk together */
+    private final int groupSize;
+
+    /** Framed entries that have not been written yet */
+    private final ByteArrayOutputStream pending;
+
+    /** Contents of the entry being appended */
+    private final ByteArrayOutputStream entry;
+
+    /** Writes the contents of the entry being appended */
+    private final DataOutputStream entryOut;
+
+    /** Checksum of the entry being appended */
+    private final CRC32 checksum;
+
+    /** Forces waiting entries to disk once they reach the maximum delay */
+    private final ScheduledExecutorService flusher;
+
+    /** Number of entries that have not been forced to disk */
+    private int unsynced;
+
+    /** Length of the log up to the end of the last complete write */
+    private long synced;
+
+    /** Whether a failed write may have left part of the waiting entries after synced */
+    private boolean torn;
+
+    /** Error of the last background flush, or null if it succeeded */
+    private volatile IllegalArgumentException failure;
+
+    /**
+     * Opens the given log with the default group size and delay, appending to any
+     * entries it already holds.
+     *
+     * @param fileName the name of the log file
+     * @throws IllegalArgumentException if the log cannot be opened
+     */
+    public CommandLog(String fileName) {
+        this(fileName, DEFAULT_GROUP_SIZE, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Opens the given log, appending to any entries it already holds.
+     *
+     * @param fileName the name of the log file
+     * @param groupSize the number of entries forced to disk together
+     * @param maxDelay the longest time, in milliseconds, an entry waits to be forced to disk
+     * @throws IllegalArgumentException if the log cannot be opened or the group size or delay is not positive
+     */
+    public CommandLog(String fileName, int groupSize, long maxDelay) {
+        this(open(fileName, groupSize, maxDelay), groupSize, maxDelay);
+    }
+
+    /**
+     * Appends to the log on the given channel, which tests use to make writes fail.
+     *
+     * @param channel the channel of the log, positioned at its end
+     * @param groupSize the number of entries forced to disk together
+     * @param maxDelay the longest time, in milliseconds, an entry waits to be forced to disk
+     * @throws IllegalArgumentException if the length of the log cannot be read
+     */
+    CommandLog(FileChannel channel, int groupSize, long maxDelay) {
+        this.channel = channel;
+        try {
+            synced = channel.position();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to open command log.");
+        }
+        this.groupSize = groupSize;
+        pending = new ByteArrayOutputStream();
+        entry = new ByteArrayOutputStream();
+        entryOut = new DataOutputStream(entry);
+        checksum = new CRC32();
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "command-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, maxDelay, maxDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens the given log for appending.
+     *
+     * @param fileName the name of the log file
+     * @param groupSize the number of entries forced to disk together
+     * @param maxDelay the longest time, in milliseconds, an entry waits to be forced to disk
+     * @return the channel of the log, positioned at its end
+     * @throws IllegalArgumentException if the log cannot be opened or the group size or delay is not positive
+     */
+    private static FileChannel open(String fileName, int groupSize, long maxDelay) {
+        if (fileName == null || fileName.isEmpty() || groupSize < 1 || maxDelay < 1) {
+            throw new IllegalArgumentException("Unable to open command log.");
+        }
+        try {
+            FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            return channel;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to open command log.");
+        }
+    }
+
+    /**
+     * Appends an entry for an application added with the given id.
+     *
+     * @param id the id the application was given
+     * @param appType the type of the application
+     * @param summary the summary of the application
+     * @param note the initial note of the application
+     */
+    public synchronized void logAdd(int id, AppType appType, String summary, String note) {
+        try {
+            entryOut.writeByte(ADD);
+            entryOut.writeInt(id);
+            entryOut.writeByte(appType.ordinal());
+            writeString(summary);
+            writeString(note);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        append();
+    }
+
+    /**
+     * Appends an entry for a command executed on the application with the given id.
+     *
+     * @param id the id of the application
+     * @param command the command that was executed
+     */
+    public synchronized void logCommand(int id, Command command) {
+        try {
+            entryOut.writeByte(COMMAND);
+            entryOut.writeInt(id);
+            entryOut.writeByte(command.getCommand().ordinal());
+            writeString(command.getReviewerId());
+            entryOut.writeByte(command.getResolution() == null ? -1 : command.getResolution().ordinal());
+            writeString(command.getNote());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        append();
+    }
+
+    /**
+     * Appends an entry holding every field of an application that was loaded from another
+     * file, so it can be restored as it was loaded.
+     *
+     * @param app the loaded application
+     */
+    public synchronized void logLoad(Application app) {
+        try {
+            entryOut.writeByte(LOAD);
+            entryOut.writeInt(app.getAppId());
+            writeString(app.getStateName());
+            writeString(app.getAppType());
+            writeString(app.getSummary());
+            writeString(app.getReviewer());
+            entryOut.writeBoolean(app.isProcessed());
+            writeString(app.getResolution());
+            List<String> notes = app.getNotes();
+            entryOut.writeInt(notes.size());
+            for (String note : notes) {
+                writeString(note);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        append();
+    }
+
+    /**
+     * Appends an entry for the deletion of the application with the given id.
+     *
+     * @param id the id of the deleted application
+     */
+    public synchronized void logDelete(int id) {
+        try {
+            entryOut.writeByte(DELETE);
+            entryOut.writeInt(id);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        append();
+    }
+
+    /**
+     * Writes every waiting entry to the log and forces it to disk. If the write fails,
+     * the entries keep waiting and are written again by the next sync.
+     *
+     * @throws IllegalArgumentException if the log cannot be written
+     */
+    public synchronized void sync() {
+        if (unsynced == 0) {
+            return;
+        }
+        try {
+            if (torn) {
+                // Drop whatever part of the entries the failed write left, so none is written twice
+                channel.truncate(synced);
+                channel.position(synced);
+            }
+            torn = true;
+            pending.writeTo(Channels.newOutputStream(channel));
+            channel.force(false);
+            synced = channel.position();
+            torn = false;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write command log.");
+        }
+        pending.reset();
+        unsynced = 0;
+        failure = null;
+    }
+
+    /**
+     * Returns the error of the last background flush if the entries it failed to write
+     * are still waiting.
+     *
+     * @return the error of the last background flush, or null if it succeeded
+     */
+    public IllegalArgumentException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Discards every entry, for example once a snapshot holding all of them has been saved.
+     *
+     * @throws IllegalArgumentException if the log cannot be truncated
+     */
+    public synchronized void truncate() {
+        truncate(0);
+    }
+
+    /**
+     * Discards every entry after the given length of the log, such as a partly written
+     * entry found by replay.
+     *
+     * @param length the number of bytes of the log to keep
+     * @throws IllegalArgumentException if the log cannot be truncated
+     */
+    public synchronized void truncate(long length) {
+        pending.reset();
+        unsynced = 0;
+        failure = null;
+        try {
+            channel.truncate(length);
+            synced = Math.min(length, channel.size());
+            torn = false;
+            channel.position(synced);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to write command log.");
+        }
+    }
+
+    /**
+     * Forces every waiting entry to disk and closes the log.
+     *
+     * @throws IllegalArgumentException if the log cannot be written
+     */
+    public synchronized void close() {
+        flusher.shutdownNow();
+        try {
+            sync();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to write command log.");
+            }
+        }
+    }
+
+    /**
+     * Syncs the waiting entries on the flusher thread, recording a failure instead of
+     * throwing it, since a scheduled task that throws is never run again.
+     */
+    private void flush() {
+        try {
+            sync();
+        } catch (IllegalArgumentException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Frames the entry that was just written and adds it to the waiting entries, forcing
+     * the group to disk if it is full.
+     */
+    private void append() {
+        checksum.reset();
+        checksum.update(entry.toByteArray());
+        DataOutputStream out = new DataOutputStream(pending);
+        try {
+            out.writeInt(entry.size());
+            out.writeInt((int) checksum.getValue());
+            entry.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        entry.reset();
+        if (++unsynced >= groupSize) {
+            sync();
+        }
+    }
+
+    /**
+     * Writes a String that may be null as its UTF-8 length followed by its UTF-8 bytes.
+     *
+     * @param value the String to write
+     * @throws IOException if the String cannot be written
+     */
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            entryOut.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            entryOut.writeInt(bytes.length);
+            entryOut.write(bytes);
+        }
+    }
+
+    /**
+     * Reads every complete entry of the given log in order and hands it to the handler.
+     * Reading stops at the first entry that is incomplete or fails its checksum, which
+     * is what a crash in the middle of a write leaves behind.
+     *
+     * @param fileName the name of the log file
+     * @param handler the handler the entries are applied through
+     * @return the length of the log up to the end of the last complete entry, or 0 if the log does not exist
+     * @throws IllegalArgumentException if the log cannot be read
+     */
+    public static long replay(String fileName, Handler handler) {
+        long validLength = 0;
+        try (FileInputStream file = new FileInputStream(fileName);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            long size = file.getChannel().size();
+            CRC32 checksum = new CRC32();
+            while (true) {
+                byte[] contents;
+                try {
+                    int length = in.readInt();
+                    int expected = in.readInt();
+                    // A torn length may be garbage, so it must fit in the rest of the file before it is allocated
+                    if (length < 0 || length > size - validLength - Integer.BYTES * 2) {
+                        break;
+                    }
+                    contents = new byte[length];
+                    in.readFully(contents);
+                    checksum.reset();
+                    checksum.update(contents);
+                    if ((int) checksum.getValue() != expected) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                apply(new DataInputStream(new ByteArrayInputStream(contents)), handler);
+                validLength += Integer.BYTES * 2 + contents.length;
+            }
+        } catch (FileNotFoundException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read command log.");
+        }
+        return validLength;
+    }
+
+    /**
+     * Decodes a single entry and hands it to the handler.
+     *
+     * @param in the contents of the entry
+     * @param handler the handler the entry is applied through
+     * @throws IOException if the entry cannot be decoded
+     */
+    private static void apply(DataInputStream in, Handler handler) throws IOException {
+        byte type = in.readByte();
+        int id = in.readInt();
+        if (type == ADD) {
+            AppType appType = AppType.values()[in.readByte()];
+            String summary = readString(in);
+            handler.add(id, appType, summary, readString(in));
+        } else if (type == COMMAND) {
+            CommandValue value = CommandValue.values()[in.readByte()];
+            String reviewerId = readString(in);
+            byte resolution = in.readByte();
+            String note = readString(in);
+            handler.command(id, new Command(value, reviewerId, resolution < 0 ? null : Resolution.values()[resolution], note));
+        } else if (type == DELETE) {
+            handler.delete(id);
+        } else if (type == LOAD) {
+            String state = readString(in);
+            String appType = readString(in);
+            String summary = readString(in);
+            String reviewer = readString(in);
+            boolean processed = in.readBoolean();
+            String resolution = readString(in);
+            int count = in.readInt();
+            if (count < 0 || count > in.available()) {
+                throw new IOException("Invalid note count " + count);
+            }
+            ArrayList<String> notes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                notes.add(readString(in));
+            }
+            // A missing reviewer or resolution is restored as the empty field a file gives
+            handler.load(new Application(id, state, appType, summary, reviewer == null ? "" : reviewer, processed,
+                    resolution == null ? "" : resolution, notes));
+        } else {
+            throw new IOException("Unknown entry type " + type);
+        }
+    }
+
+    /**
+     * Reads a String written by writeString.
+     *
+     * @param in the stream to read from
+     * @return the String, which may be null
+     * @throws IOException if the String cannot be read
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.available()) {
+            throw new IOException("String longer than its entry");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Receives the entries of a log as it is replayed.
+     */
+    public interface Handler {
+
+        /**
+         * Applies an added application.
+         *
+         * @param id the id the application was given
+         * @param appType the type of the application
+         * @param summary the summary of the application
+         * @param note the initial note of the application
+         */
+        void add(int id, AppType appType, String summary, String note);
+
+        /**
+         * Applies an executed command.
+         *
+         * @param id the id of the application
+         * @param command the command that was executed
+         */
+        void command(int id, Command command);
+
+        /**
+         * Applies a deleted application.
+         *
+         * @param id the id of the deleted application
+         */
+        void delete(int id);
+
+        /**
+         * Applies an application loaded from another file.
+         *
+         * @param app the loaded application
+         */
+        void load(Application app);
+    }
+}
@@ -0,0 +1,20 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+/**
+ * Receives the progress of a file being read by AppReader or written by AppWriter, and
+ * can cancel it. Progress is reported periodically on the thread doing the reading or
+ * writing, and once more when it is done.
+ *
+ * @author Praneel Magapu
+ */
+public interface ProgressListener {
+
+    /**
+     * Called as the file is read or written.
+     *
+     * @param records the number of records read or written so far
+     * @param bytes the number of bytes of the file read or written so far
+     * @return true to carry on, or false to cancel
+     */
+    boolean progress(int records, long bytes);
+}
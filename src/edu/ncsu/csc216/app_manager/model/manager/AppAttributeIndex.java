@@ -0,0 +1,191 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/**
+ * Secondary indexes of the AppList that map each state, application type and reviewer
+ * to the ids of the applications that have it. The ids are kept in BitSets, so the
+ * applications of a state, type or reviewer are found in id order without scanning the
+ * list, and moving an application between states only clears and sets one bit.
+ *
+ * The number of applications in each state and of each type is also kept in a LongAdder,
+ * so it can be read from any thread without locking or counting bits.
+ *
+ * The maps and BitSets are changed in place and are not thread-safe, so every change
+ * and every lookup other than the counts must be made under the monitor of the AppList
+ * that owns the indexes.
+ *
+ * @author Praneel Magapu
+ */
+class AppAttributeIndex {
+
+    /** Ids of the applications in each state */
+    private final Map<AppState, BitSet> byState;
+
+    /** Ids of the applications of each type */
+    private final Map<AppType, BitSet> byType;
+
+    /** Ids of the applications assigned to each reviewer */
+    private final Map<String, BitSet> byReviewer;
+
+    /** Number of applications in each state */
+    private final Map<AppState, LongAdder> stateCounts;
+
+    /** Number of applications of each type */
+    private final Map<AppType, LongAdder> typeCounts;
+
+    /**
+     * Constructs empty indexes.
+     */
+    AppAttributeIndex() {
+        byState = new EnumMap<>(AppState.class);
+        for (AppState state : AppState.values()) {
+            byState.put(state, new BitSet());
+        }
+        byType = new EnumMap<>(AppType.class);
+        for (AppType type : AppType.values()) {
+            byType.put(type, new BitSet());
+        }
+        byReviewer = new HashMap<>();
+        stateCounts = new EnumMap<>(AppState.class);
+        for (AppState state : AppState.values()) {
+            stateCounts.put(state, new LongAdder());
+        }
+        typeCounts = new EnumMap<>(AppType.class);
+        for (AppType type : AppType.values()) {
+            typeCounts.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * Indexes a new application.
+     *
+     * @param app the application to index
+     */
+    void add(Application app) {
+        int id = app.getAppId();
+        byState.get(app.getState()).set(id);
+        byType.get(app.getType()).set(id);
+        stateCounts.get(app.getState()).increment();
+        typeCounts.get(app.getType()).increment();
+        if (app.getReviewer() != null) {
+            byReviewer.computeIfAbsent(app.getReviewer(), r -> new BitSet()).set(id);
+        }
+    }
+
+    /**
+     * Removes an application from the indexes.
+     *
+     * @param app the application to remove
+     */
+    void remove(Application app) {
+        int id = app.getAppId();
+        byState.get(app.getState()).clear(id);
+        byType.get(app.getType()).clear(id);
+        stateCounts.get(app.getState()).decrement();
+        typeCounts.get(app.getType()).decrement();
+        removeReviewer(id, app.getReviewer());
+    }
+
+    /**
+     * Moves an application that was updated from its old state and reviewer to its current ones.
+     *
+     * @param app the updated application
+     * @param oldState the state of the application before the update
+     * @param oldReviewer the reviewer of the application before the update
+     */
+    void update(Application app, AppState oldState, String oldReviewer) {
+        int id = app.getAppId();
+        if (oldState != app.getState()) {
+            byState.get(oldState).clear(id);
+            byState.get(app.getState()).set(id);
+            stateCounts.get(oldState).decrement();
+            stateCounts.get(app.getState()).increment();
+        }
+        String reviewer = app.getReviewer();
+        if (reviewer == null ? oldReviewer != null : !reviewer.equals(oldReviewer)) {
+            removeReviewer(id, oldReviewer);
+            if (reviewer != null) {
+                byReviewer.computeIfAbsent(reviewer, r -> new BitSet()).set(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the applications in the given state.
+     *
+     * @param state the state
+     * @return the ids, which must not be changed
+     */
+    BitSet getByState(AppState state) {
+        return byState.get(state);
+    }
+
+    /**
+     * Returns the ids of the applications of the given type.
+     *
+     * @param type the application type
+     * @return the ids, which must not be changed
+     */
+    BitSet getByType(AppType type) {
+        return byType.get(type);
+    }
+
+    /**
+     * Returns the number of applications in the given state.
+     *
+     * @param state the state
+     * @return the number of applications
+     */
+    long countByState(AppState state) {
+        return stateCounts.get(state).sum();
+    }
+
+    /**
+     * Returns the number of applications of the given type.
+     *
+     * @param type the application type
+     * @return the number of applications
+     */
+    long countByType(AppType type) {
+        return typeCounts.get(type).sum();
+    }
+
+    /**
+     * Returns the ids of the applications assigned to the given reviewer.
+     *
+     * @param reviewer the reviewer
+     * @return the ids, which must not be changed
+     */
+    BitSet getByReviewer(String reviewer) {
+        BitSet ids = byReviewer.get(reviewer);
+        return ids == null ? new BitSet() : ids;
+    }
+
+    /**
+     * Removes an id from a reviewer's index, dropping the reviewer once it has no applications.
+     *
+     * @param id the id of the application
+     * @param reviewer the reviewer, or null if the application had none
+     */
+    private void removeReviewer(int id, String reviewer) {
+        if (reviewer == null) {
+            return;
+        }
+        BitSet ids = byReviewer.get(reviewer);
+        if (ids != null) {
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                byReviewer.remove(reviewer);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Primary index of the AppList that maps an application id to its Application.
+ * The index is an open-addressing hash table with linear probing that stores the
+ * ids in a primitive int array, so lookups neither box the key nor walk the list.
+ * Application ids are always positive, so 0 marks an empty slot.
+ *
+ * @author Praneel Magapu
+ */
+class AppIndex {
+
+    /** Key stored in an empty slot */
+    private static final int EMPTY = 0;
+
+    /** Smallest table capacity, must be a power of two */
+    private static final int MIN_CAPACITY = 16;
+
+    /** Multiplier used to spread sequential ids across the table */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /** Ids stored in the table */
+    private int[] keys;
+
+    /** Applications stored in the table, parallel to keys */
+    private Application[] values;
+
+    /** Number of applications in the index */
+    private int size;
+
+    /** Capacity - 1, used to wrap probes around the table */
+    private int mask;
+
+    /** Number of applications the table holds before it grows */
+    private int threshold;
+
+    /**
+     * Constructs an empty AppIndex.
+     */
+    AppIndex() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the application with the given id.
+     *
+     * @param id the id of the application
+     * @return the application with the given id, or null if it is not indexed
+     */
+    Application get(int id) {
+        if (id == EMPTY) {
+            return null;
+        }
+        int slot = slot(id);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == id) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Indexes the given application by its id, replacing any application with the same id.
+     *
+     * @param app the application to index
+     * @return the application previously indexed under the id, or null if there was none
+     */
+    Application put(Application app) {
+        int id = app.getAppId();
+        int slot = slot(id);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == id) {
+                Application previous = values[slot];
+                values[slot] = app;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = app;
+        if (++size > threshold) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the application with the given id from the index.
+     *
+     * @param id the id of the application to remove
+     * @return the removed application, or null if it was not indexed
+     */
+    Application remove(int id) {
+        if (id == EMPTY) {
+            return null;
+        }
+        int slot = slot(id);
+        while (keys[slot] != id) {
+            if (keys[slot] == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        Application removed = values[slot];
+
+        // Shift later entries of the probe run back so no lookup stops early at the gap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the number of applications in the index.
+     *
+     * @return the number of indexed applications
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes every application from the index.
+     */
+    void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the home slot of the given id.
+     *
+     * @param id the id to hash
+     * @return the slot the probe for the id starts from
+     */
+    private int slot(int id) {
+        int h = id * HASH_MULTIPLIER;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Replaces the table with an empty one of the given capacity.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Application[capacity];
+        mask = capacity - 1;
+        threshold = capacity / 4 * 3;
+        size = 0;
+    }
+
+    /**
+     * Rehashes every entry into a table of the given capacity.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Application[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+}
@@ -1,148 +1,496 @@
-package edu.ncsu.csc216.app_manager.model.manager;
-
-import java.util.ArrayList;
-import java.util.List;
-import edu.ncsu.csc216.app_manager.model.application.Application;
-import edu.ncsu.csc216.app_manager.model.command.Command;
-import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
-
-/**
- * Manages a list of applications in the system.
- * 
- * @author Praneel Magapu
- */
-public class AppList {
-
-	/**
-	 * A list of applications managed by the AppList.
-	 */
-	private List<Application> applications;
-
-	/**
-	 * A counter for tracking the number of applications added to the AppList.
-	 */
-	private int counter;
-
-    /**
-     * Constructs an empty AppList.
-     */
-    public AppList() {
-    	applications = new ArrayList<>();
-        counter = 0;
-    }
-
-    /**
-     * Returns the list of all applications.
-     * 
-     * @return a list of all applications
-     */
-    public List<Application> getApps() {
-    	return new ArrayList<>(applications);
-    }
-
-    /**
-     * Returns the application with the specified ID.
-     * 
-     * @param id the ID of the application to retrieve
-     * @return the application with the specified ID, or null if not found
-     */
-    public Application getAppById(int id) {
-        for (Application app : applications) {
-            if (app.getAppId() == id) {
-                return app;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Executes a command on the application with the specified ID.
-     * 
-     * @param id the ID of the application
-     * @param command the command to execute
-     */
-    public void executeCommand(int id, Command command) {
-    	Application app = getAppById(id);
-        if (app != null) {
-            app.update(command);
-        }
-    }
-
-    /**
-     * Deletes the application with the specified ID.
-     * 
-     * @param id the ID of the application to delete
-     */
-    public void deleteAppById(int id) {
-    	applications.removeIf(app -> app.getAppId() == id);
-    }
-
-    /**
-     * Adds a new application to the list.
-     * 
-     * @param type the type of the application
-     * @param summary the summary of the application
-     * @param note the initial note for the application
-     * @return the ID of the newly added application
-     */
-    public int addApp(AppType type, String summary, String note) {
-    	if (type == null || summary == null || note == null || summary.isEmpty() || note.isEmpty()) {
-            throw new IllegalArgumentException("Type, summary, and note must not be null or empty");
-        }
-    	Application newApp = new Application(++counter, type, summary, note);
-        addApp(newApp);
-        return newApp.getAppId();
-    }
-
-    /**
-     * Adds a single application in sorted order and checks for duplicates.
-     *
-     * @param app Application to add
-     */
-    private void addApp(Application app) {
-    	for (Application existingApp : applications) {
-            if (existingApp.getAppId() == app.getAppId()) {
-                return; // Duplicate found, do not add
-            }
-        }        
-        int index = 0;
-        while (index < applications.size() && applications.get(index).getAppId() < app.getAppId()) {
-            index++;
-        }
-        
-        applications.add(index, app);
-        
-        // Update counter to last application's id + 1
-        if (!applications.isEmpty()) {
-        	counter = applications.get(applications.size() - 1).getAppId() + 1;
-        }
-    }
-
-	/**
-     * Returns a list of applications of the specified type.
-     * 
-     * @param type the type of applications to retrieve
-     * @return a list of applications of the specified type
-     */
-    public List<Application> getAppsByType(String type) {
-        List<Application> filteredApps = new ArrayList<>();
-        for (Application app : applications) {
-            if (app.getAppType().equalsIgnoreCase(type)) {
-                filteredApps.add(app);
-            }
-        }
-        return filteredApps;
-    }
-
-    /**
-     * Adds a list of applications to the current list.
-     * 
-     * @param newApps the list of applications to add
-     */
-    public void addApps(List<Application> newApps) {
-    	for (Application app : newApps) {
-            addApp(app);
-        }
-    }
-    
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/**
+ * Manages a list of applications in the system.
+ * 
+ * Every change to the list, and every lookup through its indexes, is made under the
+ * list's monitor, so the list can be shared by threads that change different
+ * applications. The snapshot is read without locking. Commands on the same application
+ * must still be serialized by the caller, as AppManager does with its lock stripes.
+ * 
+ * @author Praneel Magapu
+ */
+public class AppList implements Iterable<Application> {
+
+	/**
+     * Outcome of a single command in a batch.
+	 */
+    public enum CommandResult {
+
+        /** The command was applied to the application */
+        APPLIED,
+
+        /** The command is not valid in the application's current state, which is unchanged */
+        INVALID_TRANSITION,
+
+        /** There is no application with the id */
+        MISSING
+    }
+
+    /**
+     * The applications managed by the AppList, in id order. Every change replaces the
+     * snapshot with a new one that shares the unchanged parts of the old one.
+     */
+    private volatile AppListSnapshot snapshot;
+
+    /**
+     * Primary index from application id to application, kept in step with the snapshot.
+     */
+    private AppIndex index;
+
+    /**
+     * Secondary indexes by state, type and reviewer, kept in step with the snapshot and
+     * with every command applied to the applications.
+     */
+    private AppAttributeIndex attributes;
+
+	/**
+	 * A counter for tracking the number of applications added to the AppList.
+	 */
+	private int counter;
+
+    /**
+     * Constructs an empty AppList.
+     */
+    public AppList() {
+        snapshot = AppListSnapshot.empty();
+        index = new AppIndex();
+        attributes = new AppAttributeIndex();
+        counter = 0;
+    }
+
+    /**
+     * Constructs an AppList holding the same applications as the given list, which
+     * continues to give out the same ids.
+     * 
+     * @param source the list to copy
+     */
+    AppList(AppList source) {
+        snapshot = source.snapshot;
+        index = new AppIndex();
+        attributes = new AppAttributeIndex();
+        for (Application app : snapshot) {
+            index.put(app);
+            attributes.add(app);
+        }
+        counter = source.counter;
+    }
+
+    /**
+     * Returns the list of all applications.
+     * 
+     * @return a list of all applications
+     */
+    public List<Application> getApps() {
+        return new ArrayList<>(snapshot.asList());
+    }
+
+    /**
+     * Returns an immutable snapshot of the list. Unlike getApps, this does not copy the
+     * list, and the snapshot's version tells whether the list has changed since an
+     * earlier snapshot was taken.
+     * 
+     * @return the current snapshot of the list
+     */
+    public AppListSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of applications in the list.
+     * 
+     * @return the number of applications
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Returns an iterator over the applications in id order, without copying the list.
+     * The iterator reads the snapshot that was current when it was created, so changes
+     * made to the list while iterating do not affect it.
+     * 
+     * @return an iterator over all applications
+     */
+    @Override
+    public Iterator<Application> iterator() {
+        return snapshot.iterator();
+    }
+
+    /**
+     * Returns the application with the specified ID.
+     * 
+     * @param id the ID of the application to retrieve
+     * @return the application with the specified ID, or null if not found
+     */
+    public synchronized Application getAppById(int id) {
+        return index.get(id);
+    }
+
+    /**
+     * Executes a command on the application with the specified ID.
+     * 
+     * @param id the ID of the application
+     * @param command the command to execute
+     */
+    public void executeCommand(int id, Command command) {
+    	Application app = getAppById(id);
+        if (app != null) {
+            AppState oldState = app.getState();
+            String oldReviewer = app.getReviewer();
+            app.update(command);
+            updated(app, oldState, oldReviewer);
+        }
+    }
+
+    /**
+     * Brings the secondary indexes and the snapshot version up to date after a command
+     * was applied to an application.
+     * 
+     * @param app the updated application
+     * @param oldState the state of the application before the command
+     * @param oldReviewer the reviewer of the application before the command
+     */
+    synchronized void updated(Application app, AppState oldState, String oldReviewer) {
+        attributes.update(app, oldState, oldReviewer);
+        touch();
+    }
+
+    /**
+     * Executes a batch of commands, each on the application with its id. The ids are
+     * sorted once and matched against the sorted list in a single merge pass. A command
+     * that is not valid for its application is reported instead of thrown, and does not
+     * stop the rest of the batch.
+     * 
+     * @param commands the command to execute for each application id
+     * @return the result for each id of the batch, in id order
+     * @throws IllegalArgumentException if the batch, any of its ids or any of its commands is null
+     */
+    public synchronized Map<Integer, CommandResult> executeCommands(Map<Integer, Command> commands) {
+        if (commands == null) {
+            throw new IllegalArgumentException("Invalid information.");
+        }
+        int[] ids = new int[commands.size()];
+        int count = 0;
+        // Immutable maps throw on containsKey(null) and containsValue(null), so nulls are checked entry by entry
+        for (Map.Entry<Integer, Command> command : commands.entrySet()) {
+            if (command.getKey() == null || command.getValue() == null) {
+                throw new IllegalArgumentException("Invalid information.");
+            }
+            ids[count++] = command.getKey();
+        }
+        Arrays.sort(ids);
+
+        Map<Integer, CommandResult> results = new LinkedHashMap<>();
+        Iterator<Application> existing = snapshot.iterator();
+        Application app = existing.hasNext() ? existing.next() : null;
+        for (int id : ids) {
+            while (app != null && app.getAppId() < id) {
+                app = existing.hasNext() ? existing.next() : null;
+            }
+            if (app != null && app.getAppId() == id) {
+                results.put(id, apply(app, commands.get(id)));
+            } else {
+                results.put(id, CommandResult.MISSING);
+            }
+        }
+        touchIfApplied(results);
+        return results;
+    }
+
+    /**
+     * Executes the same command on every application whose id is in the given range.
+     * A command that is not valid for an application is reported instead of thrown.
+     * 
+     * @param fromId the smallest id in the range
+     * @param toId the largest id in the range
+     * @param command the command to execute
+     * @return the result for each application in the range, in id order
+     * @throws IllegalArgumentException if the command is null
+     */
+    public synchronized Map<Integer, CommandResult> executeCommand(int fromId, int toId, Command command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Invalid information.");
+        }
+        Map<Integer, CommandResult> results = new LinkedHashMap<>();
+        List<Application> apps = snapshot.asList();
+        int start = snapshot.indexOf(fromId);
+        for (Application app : apps.subList(start < 0 ? -start - 1 : start, apps.size())) {
+            if (app.getAppId() > toId) {
+                break;
+            }
+            results.put(app.getAppId(), apply(app, command));
+        }
+        touchIfApplied(results);
+        return results;
+    }
+
+    /**
+     * Executes the same command on every application that matches the filter.
+     * A command that is not valid for an application is reported instead of thrown.
+     * 
+     * @param filter the filter applications must match
+     * @param command the command to execute
+     * @return the result for each matching application, in id order
+     * @throws IllegalArgumentException if the filter or command is null
+     */
+    public synchronized Map<Integer, CommandResult> executeCommand(Predicate<Application> filter, Command command) {
+        if (filter == null || command == null) {
+            throw new IllegalArgumentException("Invalid information.");
+        }
+        Map<Integer, CommandResult> results = new LinkedHashMap<>();
+        for (Application app : snapshot) {
+            if (filter.test(app)) {
+                results.put(app.getAppId(), apply(app, command));
+            }
+        }
+        touchIfApplied(results);
+        return results;
+    }
+
+    /**
+     * Applies a command to an application, reporting an invalid transition instead of throwing it.
+     * 
+     * @param app the application to update
+     * @param command the command to execute
+     * @return APPLIED, or INVALID_TRANSITION if the application rejected the command
+     */
+    private CommandResult apply(Application app, Command command) {
+        AppState oldState = app.getState();
+        String oldReviewer = app.getReviewer();
+        try {
+            app.update(command);
+        } catch (UnsupportedOperationException e) {
+            return CommandResult.INVALID_TRANSITION;
+        }
+        attributes.update(app, oldState, oldReviewer);
+        return CommandResult.APPLIED;
+    }
+
+    /**
+     * Gives the snapshot a new version if any command of a batch was applied.
+     * 
+     * @param results the results of the batch
+     */
+    private void touchIfApplied(Map<Integer, CommandResult> results) {
+        if (results.containsValue(CommandResult.APPLIED)) {
+            touch();
+        }
+    }
+
+    /**
+     * Gives the snapshot a new version after an application in it has changed. Must be
+     * called while holding the list's monitor, so no other change's snapshot is lost.
+     */
+    private void touch() {
+        snapshot = snapshot.withNewVersion();
+    }
+
+    /**
+     * Deletes the application with the specified ID.
+     * 
+     * @param id the ID of the application to delete
+     */
+    public synchronized void deleteAppById(int id) {
+        Application removed = index.remove(id);
+        if (removed != null) {
+            snapshot = snapshot.remove(snapshot.indexOf(id));
+            attributes.remove(removed);
+        }
+    }
+
+    /**
+     * Adds a new application to the list.
+     * 
+     * @param type the type of the application
+     * @param summary the summary of the application
+     * @param note the initial note for the application
+     * @return the ID of the newly added application
+     */
+    public synchronized int addApp(AppType type, String summary, String note) {
+    	if (type == null || summary == null || note == null || summary.isEmpty() || note.isEmpty()) {
+            throw new IllegalArgumentException("Type, summary, and note must not be null or empty");
+        }
+    	Application newApp = new Application(++counter, type, summary, note);
+        addApp(newApp);
+        return newApp.getAppId();
+    }
+
+    /**
+     * Returns the id the next application added with addApp will be given.
+     * 
+     * @return the next application id
+     */
+    synchronized int nextAppId() {
+        return counter + 1;
+    }
+
+    /**
+     * Adds a single application in sorted order and checks for duplicates.
+     *
+     * @param app Application to add
+     */
+    private void addApp(Application app) {
+        if (index.get(app.getAppId()) != null) {
+            return; // Duplicate found, do not add
+        }
+        snapshot = snapshot.insert(app);
+        index.put(app);
+        attributes.add(app);
+        
+        // Update counter to last application's id + 1
+        counter = snapshot.get(snapshot.size() - 1).getAppId() + 1;
+    }
+
+	/**
+     * Returns a list of applications of the specified type, found through the type index
+     * rather than by scanning the list.
+     * 
+     * @param type the type of applications to retrieve, ignoring case
+     * @return a list of applications of the specified type
+     */
+    public synchronized List<Application> getAppsByType(String type) {
+        for (AppType appType : AppType.values()) {
+            if (typeName(appType).equalsIgnoreCase(type)) {
+                return lookup(attributes.getByType(appType));
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns a list of the applications in the given state, in id order, in time
+     * proportional to the number of applications found.
+     * 
+     * @param state the state of the applications to retrieve
+     * @return a list of the applications in the state
+     */
+    public synchronized List<Application> getAppsByState(AppState state) {
+        if (state == null) {
+            return new ArrayList<>();
+        }
+        return lookup(attributes.getByState(state));
+    }
+
+    /**
+     * Returns a list of the applications assigned to the given reviewer, in id order,
+     * in time proportional to the number of applications found.
+     * 
+     * @param reviewer the reviewer of the applications to retrieve
+     * @return a list of the applications assigned to the reviewer
+     */
+    public synchronized List<Application> getAppsByReviewer(String reviewer) {
+        if (reviewer == null) {
+            return new ArrayList<>();
+        }
+        return lookup(attributes.getByReviewer(reviewer));
+    }
+
+    /**
+     * Returns the number of applications in the given state, without scanning or locking
+     * the list.
+     * 
+     * @param state the state
+     * @return the number of applications in the state
+     */
+    public long countByState(AppState state) {
+        return attributes.countByState(state);
+    }
+
+    /**
+     * Returns the number of applications of the given type, without scanning or locking
+     * the list.
+     * 
+     * @param type the application type
+     * @return the number of applications of the type
+     */
+    public long countByType(AppType type) {
+        return attributes.countByType(type);
+    }
+
+    /**
+     * Looks up the applications with the given ids.
+     * 
+     * @param ids the ids of the applications
+     * @return the applications, in id order
+     */
+    private List<Application> lookup(BitSet ids) {
+        List<Application> apps = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            apps.add(index.get(id));
+        }
+        return apps;
+    }
+
+    /**
+     * Returns the name of an application type, as returned by Application.getAppType.
+     * 
+     * @param type the application type
+     * @return the name of the type
+     */
+    private static String typeName(AppType type) {
+        switch (type) {
+        case NEW:
+            return Application.A_NEW;
+        case OLD:
+            return Application.A_OLD;
+        default:
+            return Application.A_HIRED;
+        }
+    }
+
+    /**
+     * Adds a list of applications to the current list. The batch is sorted once and
+     * merged with the existing sorted list in a single pass. An application whose id is
+     * already in the list, or earlier in the batch, is not added.
+     * 
+     * @param newApps the list of applications to add
+     */
+    public synchronized void addApps(List<Application> newApps) {
+        List<Application> batch = new ArrayList<>(newApps);
+        // Stable sort, so the first of several applications with the same id wins
+        batch.sort(Comparator.comparingInt(Application::getAppId));
+
+        List<Application> applications = snapshot.asList();
+        List<Application> merged = new ArrayList<>(applications.size() + batch.size());
+        int existing = 0;
+        boolean added = false;
+        for (Application app : batch) {
+            if (index.get(app.getAppId()) != null) {
+                continue; // Duplicate found, do not add
+            }
+            while (existing < applications.size() && applications.get(existing).getAppId() < app.getAppId()) {
+                merged.add(applications.get(existing++));
+            }
+            merged.add(app);
+            index.put(app);
+            attributes.add(app);
+            added = true;
+        }
+        if (!added) {
+            return;
+        }
+        while (existing < applications.size()) {
+            merged.add(applications.get(existing++));
+        }
+        snapshot = AppListSnapshot.of(merged);
+
+        // Update counter to last application's id + 1
+        counter = merged.get(merged.size() - 1).getAppId() + 1;
+    }
+    
 }
\ No newline at end of file
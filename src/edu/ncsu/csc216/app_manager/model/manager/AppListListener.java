@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+/**
+ * Receives fine-grained notice of changes to the rows of AppManager.getAppListAsArray,
+ * so a view can patch the rows that changed, read with AppManager.getAppListRow,
+ * instead of rebuilding the whole table. Row numbers are positions in the list in id
+ * order. Events are delivered on the thread that made the change, after the change is
+ * visible through AppManager.
+ *
+ * @author Praneel Magapu
+ */
+public interface AppListListener {
+
+    /**
+     * Called after applications were added at the given rows.
+     *
+     * @param firstRow the first inserted row
+     * @param lastRow the last inserted row
+     */
+    void rowsInserted(int firstRow, int lastRow);
+
+    /**
+     * Called after the applications at the given rows changed.
+     *
+     * @param firstRow the first updated row
+     * @param lastRow the last updated row
+     */
+    void rowsUpdated(int firstRow, int lastRow);
+
+    /**
+     * Called after the applications at the given rows were deleted. The row numbers are
+     * those the applications had before they were deleted.
+     *
+     * @param firstRow the first deleted row
+     * @param lastRow the last deleted row
+     */
+    void rowsDeleted(int firstRow, int lastRow);
+
+    /**
+     * Called after the list changed too much to describe row by row, such as when it
+     * was replaced or loaded from a file.
+     */
+    void listChanged();
+}
@@ -0,0 +1,355 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * Immutable, versioned view of an AppList in id order. A snapshot never changes once it
+ * is made, so readers can hold and share it without copying or locking. Changes to the
+ * list produce a new snapshot that shares everything but the changed chunk with the old
+ * one: the applications are stored in chunks of at most CHUNK_SIZE, and adding or removing
+ * an application copies only its chunk and the array of chunk references.
+ *
+ * Every snapshot has a version that is larger than that of any snapshot made before it,
+ * including snapshots of other lists, so a reader can skip work when the version it last
+ * saw is unchanged. The Applications themselves are shared with the list, so a command
+ * executed on the list is seen by older snapshots too; such changes are given a new
+ * version as well.
+ *
+ * @author Praneel Magapu
+ */
+public final class AppListSnapshot implements Iterable<Application> {
+
+    /** Largest number of applications in a chunk */
+    static final int CHUNK_SIZE = 256;
+
+    /** Source of snapshot versions, shared by all lists */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /** Chunks of applications in id order, none of them empty */
+    private final Application[][] chunks;
+
+    /** Number of applications in each chunk and all chunks before it */
+    private final int[] ends;
+
+    /** Version of the snapshot */
+    private final long version;
+
+    /**
+     * Constructs a snapshot over the given chunks.
+     *
+     * @param chunks the chunks of applications in id order
+     * @param ends the number of applications up to the end of each chunk
+     */
+    private AppListSnapshot(Application[][] chunks, int[] ends) {
+        this.chunks = chunks;
+        this.ends = ends;
+        this.version = VERSIONS.incrementAndGet();
+    }
+
+    /**
+     * Returns a new snapshot of an empty list.
+     *
+     * @return an empty snapshot
+     */
+    static AppListSnapshot empty() {
+        return new AppListSnapshot(new Application[0][], new int[0]);
+    }
+
+    /**
+     * Returns a new snapshot of the given applications.
+     *
+     * @param apps the applications, in id order
+     * @return a snapshot holding the applications
+     */
+    static AppListSnapshot of(List<Application> apps) {
+        int count = (apps.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Application[][] chunks = new Application[count][];
+        int[] ends = new int[count];
+        for (int i = 0; i < count; i++) {
+            int start = i * CHUNK_SIZE;
+            int end = Math.min(apps.size(), start + CHUNK_SIZE);
+            chunks[i] = apps.subList(start, end).toArray(new Application[0]);
+            ends[i] = end;
+        }
+        return new AppListSnapshot(chunks, ends);
+    }
+
+    /**
+     * Returns the version of the snapshot.
+     *
+     * @return the version, larger than that of every earlier snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of applications in the snapshot.
+     *
+     * @return the number of applications
+     */
+    public int size() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+
+    /**
+     * Returns the application at the given position in id order.
+     *
+     * @param index the position of the application
+     * @return the application at the position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public Application get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        int chunk = chunkOf(index);
+        return chunks[chunk][index - start(chunk)];
+    }
+
+    /**
+     * Returns the application with the given id.
+     *
+     * @param id the id of the application
+     * @return the application, or null if the snapshot does not hold it
+     */
+    public Application getById(int id) {
+        int position = indexOf(id);
+        return position < 0 ? null : get(position);
+    }
+
+    /**
+     * Finds the position of the given id.
+     *
+     * @param id the id to search for
+     * @return the position of the application with the id, or (-(insertion point) - 1) if it is not in the snapshot
+     */
+    public int indexOf(int id) {
+        // Find the last chunk that starts at or before the id
+        int low = 0;
+        int high = chunks.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (chunks[mid][0].getAppId() <= id) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int chunk = high;
+        if (chunk < 0) {
+            return -1;
+        }
+        Application[] apps = chunks[chunk];
+        low = 0;
+        high = apps.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = apps[mid].getAppId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return start(chunk) + mid;
+            }
+        }
+        return -(start(chunk) + low + 1);
+    }
+
+    /**
+     * Returns an unmodifiable List view of the snapshot.
+     *
+     * @return the applications in id order
+     */
+    public List<Application> asList() {
+        return new SnapshotList();
+    }
+
+    /**
+     * Returns an iterator over the applications in id order.
+     *
+     * @return an iterator over the snapshot
+     */
+    @Override
+    public Iterator<Application> iterator() {
+        return new Iterator<Application>() {
+
+            /** Chunk of the next application */
+            private int chunk;
+
+            /** Position of the next application in its chunk */
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            public Application next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Application app = chunks[chunk][offset];
+                if (++offset == chunks[chunk].length) {
+                    chunk++;
+                    offset = 0;
+                }
+                return app;
+            }
+        };
+    }
+
+    /**
+     * Returns a snapshot with the same applications and a new version, for when the
+     * applications themselves have changed.
+     *
+     * @return the new snapshot
+     */
+    AppListSnapshot withNewVersion() {
+        return new AppListSnapshot(chunks, ends);
+    }
+
+    /**
+     * Returns a snapshot with the given application added at its position in id order.
+     * The id must not already be in the snapshot.
+     *
+     * @param app the application to add
+     * @return the new snapshot
+     */
+    AppListSnapshot insert(Application app) {
+        int position = -indexOf(app.getAppId()) - 1;
+        if (chunks.length == 0) {
+            return new AppListSnapshot(new Application[][] { { app } }, new int[] { 1 });
+        }
+        // Add to the end of the previous chunk rather than the start of the next
+        int chunk = position == size() ? chunks.length - 1 : chunkOf(position);
+        if (chunk > 0 && position == start(chunk) && chunks[chunk - 1].length < CHUNK_SIZE) {
+            chunk--;
+        }
+        Application[] old = chunks[chunk];
+        int offset = position - start(chunk);
+        Application[] grown = new Application[old.length + 1];
+        System.arraycopy(old, 0, grown, 0, offset);
+        grown[offset] = app;
+        System.arraycopy(old, offset, grown, offset + 1, old.length - offset);
+
+        if (grown.length <= CHUNK_SIZE) {
+            Application[][] newChunks = chunks.clone();
+            newChunks[chunk] = grown;
+            int[] newEnds = ends.clone();
+            for (int i = chunk; i < newEnds.length; i++) {
+                newEnds[i]++;
+            }
+            return new AppListSnapshot(newChunks, newEnds);
+        }
+
+        // Split a full chunk in two; appends leave the first half full so chunks stay dense
+        int split = position == size() ? CHUNK_SIZE : grown.length / 2;
+        Application[][] newChunks = new Application[chunks.length + 1][];
+        System.arraycopy(chunks, 0, newChunks, 0, chunk);
+        newChunks[chunk] = Arrays.copyOfRange(grown, 0, split);
+        newChunks[chunk + 1] = Arrays.copyOfRange(grown, split, grown.length);
+        System.arraycopy(chunks, chunk + 1, newChunks, chunk + 2, chunks.length - chunk - 1);
+        int[] newEnds = new int[ends.length + 1];
+        System.arraycopy(ends, 0, newEnds, 0, chunk);
+        newEnds[chunk] = start(chunk) + split;
+        for (int i = chunk + 1; i < newEnds.length; i++) {
+            newEnds[i] = ends[i - 1] + 1;
+        }
+        return new AppListSnapshot(newChunks, newEnds);
+    }
+
+    /**
+     * Returns a snapshot without the application at the given position.
+     *
+     * @param index the position of the application to remove
+     * @return the new snapshot
+     */
+    AppListSnapshot remove(int index) {
+        int chunk = chunkOf(index);
+        Application[] old = chunks[chunk];
+        int offset = index - start(chunk);
+        if (old.length == 1) {
+            Application[][] newChunks = new Application[chunks.length - 1][];
+            System.arraycopy(chunks, 0, newChunks, 0, chunk);
+            System.arraycopy(chunks, chunk + 1, newChunks, chunk, chunks.length - chunk - 1);
+            int[] newEnds = new int[ends.length - 1];
+            System.arraycopy(ends, 0, newEnds, 0, chunk);
+            for (int i = chunk; i < newEnds.length; i++) {
+                newEnds[i] = ends[i + 1] - 1;
+            }
+            return new AppListSnapshot(newChunks, newEnds);
+        }
+        Application[] shrunk = new Application[old.length - 1];
+        System.arraycopy(old, 0, shrunk, 0, offset);
+        System.arraycopy(old, offset + 1, shrunk, offset, old.length - offset - 1);
+        Application[][] newChunks = chunks.clone();
+        newChunks[chunk] = shrunk;
+        int[] newEnds = ends.clone();
+        for (int i = chunk; i < newEnds.length; i++) {
+            newEnds[i]--;
+        }
+        return new AppListSnapshot(newChunks, newEnds);
+    }
+
+    /**
+     * Returns the chunk holding the given position.
+     *
+     * @param index a position in the snapshot
+     * @return the index of the chunk
+     */
+    private int chunkOf(int index) {
+        int low = 0;
+        int high = ends.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first application of the given chunk.
+     *
+     * @param chunk the index of the chunk
+     * @return the position of its first application
+     */
+    private int start(int chunk) {
+        return chunk == 0 ? 0 : ends[chunk - 1];
+    }
+
+    /**
+     * Unmodifiable List view of the snapshot.
+     */
+    private final class SnapshotList extends AbstractList<Application> implements RandomAccess {
+
+        @Override
+        public Application get(int index) {
+            return AppListSnapshot.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return AppListSnapshot.this.size();
+        }
+
+        @Override
+        public Iterator<Application> iterator() {
+            return AppListSnapshot.this.iterator();
+        }
+    }
+}
@@ -1,165 +1,1354 @@
-package edu.ncsu.csc216.app_manager.model.manager;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import edu.ncsu.csc216.app_manager.model.application.Application;
-import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
-import edu.ncsu.csc216.app_manager.model.command.Command;
-import edu.ncsu.csc216.app_manager.model.io.AppReader;
-import edu.ncsu.csc216.app_manager.model.io.AppWriter;
-
-/**
- * The AppManager class oversees the application management system 
- * and adheres to the Singleton design pattern.
- */
-public class AppManager {
-
-    /** Singleton instance of the AppManager */
-    private static AppManager instance;
-
-    /** List of applications managed by AppManager */
-    private AppList appList;
-
-    /** Private constructor to prevent instantiation */
-    private AppManager() {
-        appList = new AppList();
-    }
-
-    /**
-     * Retrieves the singleton instance of AppManager.
-     * 
-     * @return the single instance of AppManager
-     */
-    public static AppManager getInstance() {
-        if (instance == null) {
-            instance = new AppManager();
-        }
-        return instance;
-    }
-
-    /**
-     * Saves the current application list to a specified file.
-     * 
-     * @param filename the name of the file to save the applications
-     */
-    public void saveAppsToFile(String filename) {
-        try {
-            AppWriter.writeAppsToFile(filename, appList.getApps());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid input while saving applications.");
-        }
-    }
-
-    /**
-     * Creates a new empty application list.
-     */
-    public void createNewAppList() {
-        appList = new AppList();
-    }
-
-    /**
-     * Converts the application list to a 2D Object array for display purposes.
-     * 
-     * @return a 2D Object array containing applications
-     */
-    public Object[][] getAppListAsArray() {
-        List<Application> apps = appList.getApps();
-        Object[][] appArray = new Object[apps.size()][4];
-
-        for (int i = 0; i < apps.size(); i++) {
-            Application app = apps.get(i);
-            appArray[i][0] = app.getAppId();
-            appArray[i][1] = app.getStateName();
-            appArray[i][2] = app.getAppType();
-            appArray[i][3] = app.getSummary();
-        }
-        return appArray;
-    }
-    
-    /**
-     * Loads applications from a specified file into the application list.
-     * 
-     * @param filename the name of the file to load applications from
-     */
-    public void loadAppsFromFile(String filename) {
-        try {
-            List<Application> applications = AppReader.readAppsFromFile(filename);
-            appList.addApps(applications);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid input while loading applications.");
-        }
-    }
-
-    /**
-     * Filters the application list by a specified type and returns a 2D Object array.
-     * 
-     * @param appType the type of applications to filter
-     * @return a 2D Object array of applications filtered by type
-     */
-    public Object[][] getAppListAsArrayByAppType(String appType) {
-        if (appType == null) {
-            throw new IllegalArgumentException("The application type cannot be null.");
-        }
-
-        List<Application> filteredApps = new ArrayList<>();
-        for (Application app : appList.getApps()) {
-            if (appType.equals(app.getAppType())) {
-                filteredApps.add(app);
-            }
-        }
-
-        Object[][] appArray = new Object[filteredApps.size()][4];
-        for (int i = 0; i < filteredApps.size(); i++) {
-            Application app = filteredApps.get(i);
-            appArray[i][0] = app.getAppId();
-            appArray[i][1] = app.getStateName();
-            appArray[i][2] = app.getAppType();
-            appArray[i][3] = app.getSummary();
-        }
-        return appArray;
-    }
-
-    /**
-     * Retrieves an application by its unique ID.
-     * 
-     * @param id the ID of the application to retrieve
-     * @return the Application associated with the specified ID
-     */
-    public Application getAppById(int id) {
-        return appList.getAppById(id);
-    }
-
-    /**
-     * Executes a given command on the application specified by its ID.
-     * 
-     * @param id the ID of the application to modify
-     * @param command the command to be executed
-     */
-    public void executeCommand(int id, Command command) {
-        appList.executeCommand(id, command);
-    }
-
-    /**
-     * Deletes an application from the list by its ID.
-     * 
-     * @param id the ID of the application to delete
-     */
-    public void deleteAppById(int id) {
-        appList.deleteAppById(id);
-    }
-
-    /**
-     * Adds a new application to the list with the provided details.
-     * 
-     * @param appType the type of the application
-     * @param summary a brief summary of the application
-     * @param note additional notes regarding the application
-     */
-    public void addAppToList(AppType appType, String summary, String note) {
-        if (appType == null || summary == null || summary.isEmpty() || note == null || note.isEmpty()) {
-            throw new IllegalArgumentException("Application parameters cannot be null or empty.");
-        }
-        appList.addApp(appType, summary, note);
-    }
-}
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.io.AppReader;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+import edu.ncsu.csc216.app_manager.model.io.CommandLog;
+import edu.ncsu.csc216.app_manager.model.io.ProgressListener;
+import edu.ncsu.csc216.app_manager.model.manager.AppList.CommandResult;
+import edu.ncsu.csc216.app_manager.model.metrics.AppManagerMetrics;
+import edu.ncsu.csc216.app_manager.model.metrics.AppManagerMetrics.Operation;
+
+/**
+ * The AppManager class oversees the application management system 
+ * and adheres to the Singleton design pattern.
+ * 
+ * The manager can be used from several threads in either mode. Commands, additions and
+ * deletions lock only the stripe that the application's id maps to, so no two threads
+ * change the same application at once, while loads, saves and batches lock every
+ * stripe. The list itself publishes each change under its own monitor, so changes on
+ * different stripes never overwrite each other. In concurrent mode the list is a
+ * ConcurrentAppList, so lookups by id are read from a published snapshot without locking.
+ * 
+ * The rows of getAppListAsArray are cached and patched one row at a time as
+ * applications are added, updated and deleted, and AppListListeners are told which rows
+ * changed. Callers get copies of the cached rows, so the cache is only ever changed by
+ * the manager.
+ * 
+ * Once metrics are enabled, the latency of each single-application command, addition,
+ * deletion, load, save and table array is recorded in AppManagerMetrics, along with the
+ * transitions commands make and the exceptions operations fail with.
+ * 
+ * Once autosave is enabled, the list is saved to a file on a background thread, either
+ * after a set number of changes or at a fixed interval, so no operation waits for the disk.
+ */
+public class AppManager {
+
+    /** Singleton instance of the AppManager */
+    private static volatile AppManager instance;
+
+    /** Number of lock stripes, must be a power of two */
+    private static final int STRIPES = 64;
+
+    /** Suffix of the change segment that incremental saves append to */
+    public static final String CHANGES_SUFFIX = ".changes";
+
+    /** Smallest list for which incremental saves are appended instead of compacted */
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    /** The change segment is compacted once it holds this fraction of the list size */
+    private static final int COMPACTION_DIVISOR = 4;
+
+    /** Smallest batch of applications added to the list at a time while a file is loaded */
+    private static final int LOAD_BATCH_SIZE = 4096;
+
+    /** List of applications managed by AppManager */
+    private volatile AppList appList;
+
+    /** Whether the list can be read while other threads change it */
+    private boolean concurrent;
+
+    /** Locks that serialize the changes to the applications whose ids map to them */
+    private final ReentrantLock[] stripes;
+
+    /** Rows of getAppListAsArray in id order, or null until they are next needed; guarded by rowsLock */
+    private List<Object[]> rows;
+
+    /** Lock that guards rows */
+    private final Object rowsLock = new Object();
+
+    /** Listeners told about changes to the rows */
+    private final List<AppListListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Ids of the applications added, updated or deleted since the last save */
+    private BitSet changedIds;
+
+    /** File the list matches apart from changedIds, or null if there is none */
+    private volatile String savedFile;
+
+    /** Number of records in the change segment of savedFile */
+    private int segmentRecords;
+
+    /** Log of the changes made since the list last matched a file, or null if logging is off */
+    private CommandLog commandLog;
+
+    /** Metrics of the operations, recorded only while enabled */
+    private final AppManagerMetrics metrics = new AppManagerMetrics();
+
+    /** Lock held while the list is written to a file, always taken before any stripe */
+    private final Object fileLock = new Object();
+
+    /** Service saving the list in the background, or null if autosave is off */
+    private volatile AutosaveService autosave;
+
+    /** Thread autosaves run on, or null until autosave is first enabled */
+    private volatile ScheduledThreadPoolExecutor autosaveExecutor;
+
+    /** Private constructor to prevent instantiation */
+    private AppManager() {
+        appList = new AppList();
+        changedIds = new BitSet();
+        stripes = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Retrieves the singleton instance of AppManager.
+     * 
+     * @return the single instance of AppManager
+     */
+    public static AppManager getInstance() {
+        AppManager manager = instance;
+        if (manager == null) {
+            synchronized (AppManager.class) {
+                manager = instance;
+                if (manager == null) {
+                    manager = new AppManager();
+                    instance = manager;
+                }
+            }
+        }
+        return manager;
+    }
+
+    /**
+     * Switches concurrent mode on or off, keeping the applications in the list. In
+     * concurrent mode lookups and the table arrays never lock and can run while other
+     * threads change the list.
+     * 
+     * @param concurrent whether the list can be read while other threads change it
+     */
+    public void setConcurrentMode(boolean concurrent) {
+        lockAll();
+        try {
+            if (this.concurrent != concurrent) {
+                this.concurrent = concurrent;
+                appList = concurrent ? new ConcurrentAppList(appList) : new AppList(appList);
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns whether concurrent mode is on.
+     * 
+     * @return true if the list can be read while other threads change it
+     */
+    public boolean isConcurrentMode() {
+        return concurrent;
+    }
+
+    /**
+     * Starts recording the metrics of the operations, and registers the metrics with the
+     * platform MBean server so JMX clients can read them.
+     */
+    public void enableMetrics() {
+        metrics.register();
+        metrics.setEnabled(true);
+    }
+
+    /**
+     * Stops recording the metrics of the operations, keeping the metrics recorded so far.
+     */
+    public void disableMetrics() {
+        metrics.setEnabled(false);
+    }
+
+    /**
+     * Returns the metrics of the operations.
+     * 
+     * @return the metrics
+     */
+    public AppManagerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the lock stripe for the given application id.
+     * 
+     * @param id the id of the application
+     * @return the lock that serializes changes to the application
+     */
+    private ReentrantLock stripe(int id) {
+        return stripes[id & (STRIPES - 1)];
+    }
+
+    /**
+     * Locks every stripe, in order, so no other thread can change the list.
+     */
+    private void lockAll() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+    }
+
+    /**
+     * Unlocks every stripe locked by lockAll.
+     */
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    /**
+     * Saves the current application list to a specified file.
+     * 
+     * @param filename the name of the file to save the applications
+     */
+    public void saveAppsToFile(String filename) {
+        long start = metrics.start();
+        synchronized (fileLock) {
+            lockAll();
+            try {
+                try {
+                    AppWriter.streamAppsToFile(filename, appList);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid input while saving applications.");
+                }
+                // The full file replaces any change segment appended to it earlier
+                new File(filename + CHANGES_SUFFIX).delete();
+                markSaved(filename, 0);
+            } catch (RuntimeException e) {
+                metrics.failed(e);
+                throw e;
+            } finally {
+                unlockAll();
+                metrics.stop(Operation.SAVE, start);
+            }
+        }
+    }
+
+    /**
+     * Saves the current application list to a specified file, reporting the progress to
+     * the given listener. The file is replaced only once every application has been
+     * written, so a save that fails or is cancelled leaves it as it was. The list cannot
+     * be changed while it is being saved.
+     * 
+     * @param filename the name of the file to save the applications
+     * @param progress the listener told how many applications have been written
+     * @throws CancellationException if the listener cancels the save
+     */
+    public void saveAppsToFile(String filename, ProgressListener progress) {
+        long start = metrics.start();
+        synchronized (fileLock) {
+            lockAll();
+            try {
+                try {
+                    AppWriter.streamAppsToFile(filename, appList, progress);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid input while saving applications.");
+                }
+                new File(filename + CHANGES_SUFFIX).delete();
+                markSaved(filename, 0);
+            } catch (RuntimeException e) {
+                metrics.failed(e);
+                throw e;
+            } finally {
+                unlockAll();
+                metrics.stop(Operation.SAVE, start);
+            }
+        }
+    }
+
+    /**
+     * Saves only the applications added, updated or deleted since the last save, by
+     * appending them to the change segment of the given file. Falls back to a full save,
+     * which also compacts the segment into the file, when the list was last saved to or
+     * loaded from a different file, or when the segment would grow past a quarter of the list.
+     * 
+     * @param filename the name of the file to save the applications
+     */
+    public void saveChangesToFile(String filename) {
+        // An autosave between writing the segment and marking it saved would delete the segment
+        synchronized (fileLock) {
+            lockAll();
+            try {
+                int records = segmentRecords + changedIds.cardinality();
+                if (filename == null || !filename.equals(savedFile)
+                        || records > Math.max(MIN_COMPACTION_SIZE, appList.size() / COMPACTION_DIVISOR)) {
+                    saveAppsToFile(filename);
+                    return;
+                }
+                List<Application> changedApps = new ArrayList<>();
+                List<Integer> deletedIds = new ArrayList<>();
+                for (int id = changedIds.nextSetBit(0); id >= 0; id = changedIds.nextSetBit(id + 1)) {
+                    Application app = appList.getAppById(id);
+                    if (app == null) {
+                        deletedIds.add(id);
+                    } else {
+                        changedApps.add(app);
+                    }
+                }
+                try {
+                    AppWriter.appendChangesToFile(filename + CHANGES_SUFFIX, changedApps, deletedIds);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid input while saving applications.");
+                }
+                markSaved(filename, records);
+            } finally {
+                unlockAll();
+            }
+        }
+    }
+
+    /**
+     * Tells whether the list was last saved to or loaded from the given file, so the file
+     * holds the list apart from the unsaved changes. A load that merged into a list that
+     * already had applications leaves the list matching no file.
+     * 
+     * @param filename the name of the file
+     * @return true if the list matches the file apart from its unsaved changes
+     */
+    public boolean isSavedTo(String filename) {
+        return filename != null && filename.equals(savedFile);
+    }
+
+    /**
+     * Returns the number of applications added, updated or deleted since the last save.
+     * 
+     * @return the number of unsaved changes
+     */
+    public int getUnsavedChangeCount() {
+        synchronized (changedIds) {
+            return changedIds.cardinality();
+        }
+    }
+
+    /**
+     * Starts saving the application list to the given file in the background, replacing
+     * any autosave already running, which first saves its own file one last time. The list
+     * is saved once changeThreshold changes have been made, and every intervalMillis while
+     * there are changes that have not been saved. Each save writes a temporary file and
+     * renames it over the file, so a crash never leaves a partly written file. The
+     * applications are copied one at a time under their stripe, so operations only ever
+     * wait for one application to be copied, never for the disk.
+     * 
+     * The list is saved right away, unless the file is the one it was last saved to or
+     * loaded from and no changes have been made since. Replacing the list with createNewAppList, a load or recoverFromLog
+     * stops autosave after a final save of the list being replaced. Autosave cannot be
+     * used with the command log, since it would overwrite the file the log is replayed onto.
+     * Nor can it be used with a binary file, which autosave would rewrite as a text file.
+     * 
+     * @param filename the name of the file to save the applications to
+     * @param intervalMillis the time between saves, in milliseconds
+     * @param changeThreshold the number of changes that starts a save before the interval is up
+     * @throws IllegalArgumentException if the file name is null or empty, the interval or threshold is not positive, or the file is binary
+     * @throws IllegalStateException if the command log is enabled
+     */
+    public void enableAutosave(String filename, long intervalMillis, int changeThreshold) {
+        if (filename == null || filename.isEmpty() || intervalMillis < 1 || changeThreshold < 1) {
+            throw new IllegalArgumentException("Invalid autosave settings.");
+        }
+        if (AppReader.isBinaryFile(filename)) {
+            throw new IllegalArgumentException("Unable to autosave a binary file.");
+        }
+        lockAll();
+        try {
+            if (commandLog != null) {
+                throw new IllegalStateException("Autosave cannot be used with the command log.");
+            }
+            stopAutosave(null);
+            if (autosaveExecutor == null) {
+                autosaveExecutor = new ScheduledThreadPoolExecutor(1, task -> {
+                    Thread thread = new Thread(task, "autosave");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                autosaveExecutor.setRemoveOnCancelPolicy(true);
+            }
+            long pending = filename.equals(savedFile) ? getUnsavedChangeCount() : 1;
+            autosave = new AutosaveService(this, filename, intervalMillis, changeThreshold, pending, autosaveExecutor);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Stops autosave, queuing a final save of any changes that have not been saved
+     * without waiting for it.
+     */
+    public void disableAutosave() {
+        lockAll();
+        try {
+            stopAutosave(null);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Returns whether autosave is on.
+     * 
+     * @return true if the list is being saved in the background
+     */
+    public boolean isAutosaveEnabled() {
+        return autosave != null;
+    }
+
+    /**
+     * Waits for every queued autosave to finish and, if autosave is on, saves any changes
+     * that have not been saved yet, so nothing is lost when the program exits.
+     * 
+     * @throws IllegalArgumentException if the file cannot be saved
+     */
+    public void flushAutosave() {
+        AutosaveService service = autosave;
+        if (service != null) {
+            service.flush();
+        } else if (autosaveExecutor != null) {
+            // The final saves of stopped services are queued ahead of this task
+            try {
+                autosaveExecutor.submit(() -> { }).get();
+            } catch (ExecutionException e) {
+                throw new IllegalArgumentException("Unable to save file.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Stops autosave, if it is on, queuing a final save. Must be called while holding
+     * every stripe.
+     * 
+     * @param last the snapshot of the list about to be replaced, or null if the list stays
+     */
+    private void stopAutosave(AppListSnapshot last) {
+        AutosaveService service = autosave;
+        if (service != null) {
+            autosave = null;
+            service.close(last);
+        }
+    }
+
+    /**
+     * Writes the applications of a snapshot to a file for autosave, copying each one
+     * under its stripe as it is written, and deletes the file's change segment, which the
+     * file now includes. Explicit saves wait for the write, but other operations do not.
+     * 
+     * @param filename the name of the file to save the applications to
+     * @param apps the snapshot of the applications
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    void writeAutosave(String filename, AppListSnapshot apps) {
+        Iterable<Application> copies = () -> new Iterator<Application>() {
+            private final Iterator<Application> iterator = apps.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Application next() {
+                Application app = iterator.next();
+                ReentrantLock lock = stripe(app.getAppId());
+                lock.lock();
+                try {
+                    return new Application(app);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        };
+        synchronized (fileLock) {
+            AppWriter.streamAppsToFile(filename, copies, (records, bytes) -> true);
+            new File(filename + CHANGES_SUFFIX).delete();
+        }
+    }
+
+    /**
+     * Records that the list now matches the given file and its change segment.
+     * 
+     * @param filename the file the list matches, or null if it matches none
+     * @param records the number of records in the file's change segment
+     */
+    private void markSaved(String filename, int records) {
+        synchronized (changedIds) {
+            changedIds.clear();
+        }
+        savedFile = filename;
+        segmentRecords = records;
+        // Everything logged so far is now part of the file, so the log starts over
+        if (commandLog != null) {
+            commandLog.truncate();
+        }
+    }
+
+    /**
+     * Records that applications loaded from a file were merged into a list that already
+     * had applications, which leaves the list matching no file. The command log is kept,
+     * since the list is still recovered from the file it matched before, and the loaded
+     * applications are logged on top of it.
+     * 
+     * @param loaded the applications read from the file, in the order they were added
+     */
+    private void markMerged(List<Application> loaded) {
+        synchronized (changedIds) {
+            changedIds.clear();
+        }
+        savedFile = null;
+        segmentRecords = 0;
+        if (commandLog != null) {
+            // Applications whose id was taken are logged too, and skipped again on replay
+            for (Application app : loaded) {
+                commandLog.logLoad(app);
+            }
+        }
+    }
+
+    /**
+     * Starts recording every added, updated and deleted application in the given
+     * command log, so changes made after the last save can be recovered after a crash
+     * with recoverFromLog. Any entries the log already holds are discarded, so a log
+     * left behind by a crash must be recovered before logging is enabled again.
+     * 
+     * @param logFile the name of the command log
+     * @throws IllegalStateException if autosave is enabled
+     */
+    public void enableCommandLog(String logFile) {
+        lockAll();
+        try {
+            if (autosave != null) {
+                throw new IllegalStateException("The command log cannot be used with autosave.");
+            }
+            disableCommandLog();
+            CommandLog log = new CommandLog(logFile);
+            log.truncate();
+            commandLog = log;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Forces any logged changes to disk and stops recording changes in the command log.
+     */
+    public void disableCommandLog() {
+        lockAll();
+        try {
+            if (commandLog != null) {
+                CommandLog log = commandLog;
+                commandLog = null;
+                log.close();
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Rebuilds the application list after a crash by loading the file it was last saved
+     * to or loaded from and replaying the changes recorded in the command log since then.
+     * The replayed changes count as unsaved, and logging continues in the same log.
+     * A partly written entry at the end of the log is discarded.
+     * 
+     * @param filename the file the list was last saved to or loaded from, or null to start from an empty list
+     * @param logFile the name of the command log
+     */
+    public void recoverFromLog(String filename, String logFile) {
+        lockAll();
+        try {
+            disableCommandLog();
+            createNewAppList();
+            if (filename != null) {
+                loadAppsFromFile(filename);
+            }
+            long length;
+            try {
+                length = CommandLog.replay(logFile, new CommandLog.Handler() {
+                    @Override
+                    public void add(int id, AppType appType, String summary, String note) {
+                        appList.addApps(List.of(new Application(id, appType, summary, note)));
+                        markChanged(id);
+                    }
+
+                    @Override
+                    public void command(int id, Command command) {
+                        executeCommand(id, command);
+                    }
+
+                    @Override
+                    public void delete(int id) {
+                        deleteAppById(id);
+                    }
+
+                    @Override
+                    public void load(Application app) {
+                        appList.addApps(List.of(app));
+                        markChanged(app.getAppId());
+                    }
+                });
+            } catch (IllegalArgumentException | UnsupportedOperationException e) {
+                throw new IllegalArgumentException("Invalid command log.");
+            }
+            CommandLog log = new CommandLog(logFile);
+            log.truncate(length);
+            commandLog = log;
+            rowsChanged();
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Creates a new empty application list.
+     */
+    public void createNewAppList() {
+        lockAll();
+        try {
+            stopAutosave(appList.getSnapshot());
+            appList = concurrent ? new ConcurrentAppList() : new AppList();
+            markSaved(null, 0);
+            rowsChanged();
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Converts the application list to a 2D Object array for display purposes. The rows
+     * are copies, so they do not change when the list does and may be changed by the caller.
+     * Copying the table takes time in proportion to the list, so a view that has the table
+     * already refreshes only the rows AppListListeners are told about, with getAppListRow.
+     * 
+     * @return a 2D Object array containing applications
+     */
+    public Object[][] getAppListAsArray() {
+        long start = metrics.start();
+        try {
+            synchronized (rowsLock) {
+                List<Object[]> cached = cachedRows();
+                // The cached rows are patched in place when their application changes, so
+                // callers get copies that no other thread writes to and that they may change
+                Object[][] table = new Object[cached.size()][];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = cached.get(i).clone();
+                }
+                return table;
+            }
+        } finally {
+            metrics.stop(Operation.LIST_AS_ARRAY, start);
+        }
+    }
+
+    /**
+     * Returns a copy of one row of getAppListAsArray, so a view told by an AppListListener
+     * that a row was inserted or updated can refresh that row alone.
+     * 
+     * @param row the number of the row, its position in the list in id order
+     * @return the row holding the id, state name, type and summary of the application
+     * @throws IllegalArgumentException if there is no such row
+     */
+    public Object[] getAppListRow(int row) {
+        synchronized (rowsLock) {
+            List<Object[]> cached = cachedRows();
+            if (row < 0 || row >= cached.size()) {
+                throw new IllegalArgumentException("Invalid row.");
+            }
+            return cached.get(row).clone();
+        }
+    }
+
+    /**
+     * Returns the cached rows, building them from the list if they were dropped. Must be
+     * called while holding rowsLock.
+     * 
+     * @return the rows of the list
+     */
+    private List<Object[]> cachedRows() {
+        if (rows == null) {
+            AppListSnapshot apps = appList.getSnapshot();
+            rows = new ArrayList<>(apps.size());
+            for (Application app : apps) {
+                rows.add(toRow(app));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Builds the table row for an application.
+     * 
+     * @param app the application
+     * @return the row holding the id, state name, type and summary of the application
+     */
+    private static Object[] toRow(Application app) {
+        return new Object[] { app.getAppId(), app.getStateName(), app.getAppType(), app.getSummary() };
+    }
+
+    /**
+     * Finds the cached row of the given id. Must be called while holding rowsLock.
+     * 
+     * @param id the id of the application
+     * @return the row of the application, or (-(insertion point) - 1) if it has no row
+     */
+    private int findRow(int id) {
+        int low = 0;
+        int high = rows.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = (Integer) rows.get(mid)[0];
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Patches the cached row of an application that was updated and tells the listeners.
+     * Without cached rows the row is found in the current snapshot.
+     * 
+     * @param id the id of the application
+     */
+    private void rowUpdated(int id) {
+        int row;
+        synchronized (rowsLock) {
+            Application app = appList.getAppById(id);
+            if (app == null) {
+                return;
+            }
+            if (rows == null) {
+                row = appList.getSnapshot().indexOf(id);
+                if (row < 0) {
+                    return;
+                }
+            } else {
+                row = findRow(id);
+                if (row < 0) {
+                    return;
+                }
+                rows.get(row)[1] = app.getStateName();
+            }
+        }
+        for (AppListListener listener : listeners) {
+            listener.rowsUpdated(row, row);
+        }
+    }
+
+    /**
+     * Adds the cached row of an application that was added and tells the listeners.
+     * Without cached rows the row is found in the current snapshot.
+     * 
+     * @param id the id of the application
+     */
+    private void rowInserted(int id) {
+        int row;
+        synchronized (rowsLock) {
+            Application app = appList.getAppById(id);
+            if (app == null) {
+                return;
+            }
+            if (rows == null) {
+                row = appList.getSnapshot().indexOf(id);
+                if (row < 0) {
+                    return;
+                }
+            } else {
+                row = findRow(id);
+                // The rows may have been rebuilt after the application was added
+                if (row >= 0) {
+                    return;
+                }
+                row = -row - 1;
+                rows.add(row, toRow(app));
+            }
+        }
+        for (AppListListener listener : listeners) {
+            listener.rowsInserted(row, row);
+        }
+    }
+
+    /**
+     * Removes the cached row of an application that was deleted and tells the listeners.
+     * Without cached rows the row is found in the current snapshot.
+     * 
+     * @param id the id of the application
+     */
+    private void rowDeleted(int id) {
+        int row;
+        synchronized (rowsLock) {
+            if (rows == null) {
+                // The deleted application's row is where it would be inserted again
+                row = appList.getSnapshot().indexOf(id);
+                if (row >= 0) {
+                    return;
+                }
+                row = -row - 1;
+            } else {
+                row = findRow(id);
+                // The rows may have been rebuilt after the application was deleted
+                if (row < 0) {
+                    return;
+                }
+                rows.remove(row);
+            }
+        }
+        for (AppListListener listener : listeners) {
+            listener.rowsDeleted(row, row);
+        }
+    }
+
+    /**
+     * Drops the cached rows after a change to the whole list and tells the listeners.
+     */
+    private void rowsChanged() {
+        synchronized (rowsLock) {
+            rows = null;
+        }
+        for (AppListListener listener : listeners) {
+            listener.listChanged();
+        }
+    }
+
+    /**
+     * Registers a listener to be told about changes to the rows of getAppListAsArray.
+     * 
+     * @param listener the listener to add
+     */
+    public void addAppListListener(AppListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops telling a listener about changes to the rows of getAppListAsArray.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeAppListListener(AppListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns an immutable snapshot of the application list, which readers can hold
+     * without copying the list.
+     * 
+     * @return the current snapshot of the application list
+     */
+    public AppListSnapshot getAppListSnapshot() {
+        return appList.getSnapshot();
+    }
+
+    /**
+     * Returns the version of the application list. The version changes whenever an
+     * application is added, updated or deleted, or the list is replaced, so a caller
+     * that saw the same version before does not need to read the list again.
+     * 
+     * @return the version of the application list
+     */
+    public long getAppListVersion() {
+        return appList.getSnapshot().getVersion();
+    }
+    
+    /**
+     * Loads applications from a specified file into the application list, applying
+     * the file's change segment if it has one.
+     * 
+     * @param filename the name of the file to load applications from
+     */
+    public void loadAppsFromFile(String filename) {
+        long start = metrics.start();
+        try {
+            loadApps(filename, AppReader.readAppsFromFile(filename));
+        } catch (IllegalArgumentException e) {
+            IllegalArgumentException invalid = new IllegalArgumentException("Invalid input while loading applications.");
+            metrics.failed(invalid);
+            throw invalid;
+        } finally {
+            metrics.stop(Operation.LOAD, start);
+        }
+    }
+
+    /**
+     * Loads applications from a specified file into the application list as it is read,
+     * applying the file's change segment if it has one, and reporting the progress to the
+     * given listener. The applications read so far are added in batches, each at least as
+     * large as the list, so they can be shown before the whole file is read while merging
+     * them into the list stays linear overall. Listeners are told the list changed after
+     * each batch. If the load fails or is cancelled the list is put back as it was.
+     * 
+     * @param filename the name of the file to load applications from
+     * @param progress the listener told how much of the file has been read
+     * @throws CancellationException if the listener cancels the load
+     */
+    public void loadAppsFromFile(String filename, ProgressListener progress) {
+        long start = metrics.start();
+        lockAll();
+        AppList before = appList;
+        try {
+            stopAutosave(before.getSnapshot());
+            Map<Integer, Application> changes = new HashMap<>();
+            if (new File(filename + CHANGES_SUFFIX).exists()) {
+                changes = AppReader.readChangesFromFile(filename + CHANGES_SUFFIX);
+            }
+            Map<Integer, Application> changed = changes;
+            AppList loading = concurrent ? new ConcurrentAppList(before) : new AppList(before);
+            appList = loading;
+            boolean merging = before.size() != 0;
+            List<Application> loaded = new ArrayList<>();
+            List<Application> pending = new ArrayList<>();
+            AppReader.readAppsFromFile(filename, batch -> {
+                for (Application app : batch) {
+                    // The change segment replaces the file's record of the application
+                    if (!changed.containsKey(app.getAppId())) {
+                        pending.add(app);
+                    }
+                }
+                if (pending.size() >= Math.max(LOAD_BATCH_SIZE, loading.size())) {
+                    loading.addApps(pending);
+                    if (merging) {
+                        loaded.addAll(pending);
+                    }
+                    pending.clear();
+                    rowsChanged();
+                }
+            }, progress);
+            for (Application app : changes.values()) {
+                if (app != null) {
+                    pending.add(app);
+                }
+            }
+            loading.addApps(pending);
+            // Loading into a list that already had applications leaves it matching no file
+            if (merging) {
+                loaded.addAll(pending);
+                markMerged(loaded);
+            } else {
+                markSaved(filename, changes.size());
+            }
+        } catch (IllegalArgumentException e) {
+            appList = before;
+            IllegalArgumentException invalid = new IllegalArgumentException("Invalid input while loading applications.");
+            metrics.failed(invalid);
+            throw invalid;
+        } catch (RuntimeException e) {
+            appList = before;
+            metrics.failed(e);
+            throw e;
+        } finally {
+            rowsChanged();
+            unlockAll();
+            metrics.stop(Operation.LOAD, start);
+        }
+    }
+
+    /**
+     * Loads applications from a specified file into the application list, parsing
+     * the file in chunks on all available cores.
+     * 
+     * @param filename the name of the file to load applications from
+     */
+    public void loadAppsFromFileInParallel(String filename) {
+        long start = metrics.start();
+        try {
+            loadApps(filename, AppReader.readAppsFromFileInParallel(filename));
+        } catch (IllegalArgumentException e) {
+            IllegalArgumentException invalid = new IllegalArgumentException("Invalid input while loading applications.");
+            metrics.failed(invalid);
+            throw invalid;
+        } finally {
+            metrics.stop(Operation.LOAD, start);
+        }
+    }
+
+    /**
+     * Applies the change segment of the given file to the applications read from it and
+     * adds them to the list.
+     * 
+     * @param filename the name of the file the applications were read from
+     * @param applications the applications read from the file
+     */
+    private void loadApps(String filename, List<Application> applications) {
+        lockAll();
+        try {
+            stopAutosave(appList.getSnapshot());
+            addLoadedApps(filename, applications);
+            rowsChanged();
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Applies the change segment of the given file to the applications read from it and
+     * adds them to the list. Must be called while holding every stripe.
+     * 
+     * @param filename the name of the file the applications were read from
+     * @param applications the applications read from the file
+     */
+    private void addLoadedApps(String filename, List<Application> applications) {
+        boolean wasEmpty = appList.size() == 0;
+        int records = 0;
+        if (new File(filename + CHANGES_SUFFIX).exists()) {
+            Map<Integer, Application> changes = AppReader.readChangesFromFile(filename + CHANGES_SUFFIX);
+            records = changes.size();
+            List<Application> merged = new ArrayList<>(applications.size() + changes.size());
+            for (Application app : applications) {
+                if (!changes.containsKey(app.getAppId())) {
+                    merged.add(app);
+                }
+            }
+            for (Application app : changes.values()) {
+                if (app != null) {
+                    merged.add(app);
+                }
+            }
+            applications = merged;
+        }
+        appList.addApps(applications);
+        // Loading into a list that already had applications leaves it matching no file
+        if (wasEmpty) {
+            markSaved(filename, records);
+        } else {
+            markMerged(applications);
+        }
+    }
+
+    /**
+     * Filters the application list by a specified type and returns a 2D Object array.
+     * 
+     * @param appType the type of applications to filter
+     * @return a 2D Object array of applications filtered by type
+     */
+    public Object[][] getAppListAsArrayByAppType(String appType) {
+        long start = metrics.start();
+        try {
+            List<Application> filteredApps = getAppsByType(appType);
+            Object[][] appArray = new Object[filteredApps.size()][4];
+            for (int i = 0; i < filteredApps.size(); i++) {
+                Application app = filteredApps.get(i);
+                appArray[i][0] = app.getAppId();
+                appArray[i][1] = app.getStateName();
+                appArray[i][2] = app.getAppType();
+                appArray[i][3] = app.getSummary();
+            }
+            return appArray;
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        } finally {
+            metrics.stop(Operation.LIST_AS_ARRAY_BY_TYPE, start);
+        }
+    }
+
+    /**
+     * Returns the applications of the given type, in id order, without scanning the list.
+     * 
+     * @param appType the type name of the applications
+     * @return the applications of the type, or an empty list if no type has the name
+     * @throws IllegalArgumentException if the type is null
+     */
+    public List<Application> getAppsByType(String appType) {
+        if (appType == null) {
+            throw new IllegalArgumentException("The application type cannot be null.");
+        }
+        // The type index ignores case, so only exact type names are looked up in it
+        if (appType.equals(Application.A_NEW) || appType.equals(Application.A_OLD)
+                || appType.equals(Application.A_HIRED)) {
+            return appList.getAppsByType(appType);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns the applications in the given state, in id order, without scanning the list.
+     * 
+     * @param state the state of the applications
+     * @return the applications in the state
+     */
+    public List<Application> getAppsByState(AppState state) {
+        return appList.getAppsByState(state);
+    }
+
+    /**
+     * Returns the applications assigned to the given reviewer, in id order, without
+     * scanning the list.
+     * 
+     * @param reviewer the reviewer of the applications
+     * @return the applications assigned to the reviewer
+     */
+    public List<Application> getAppsByReviewer(String reviewer) {
+        return appList.getAppsByReviewer(reviewer);
+    }
+
+    /**
+     * Returns the number of applications in the given state, kept up to date as
+     * applications change, so it is read in constant time.
+     * 
+     * @param state the state
+     * @return the number of applications in the state
+     */
+    public long getAppCountByState(AppState state) {
+        return appList.countByState(state);
+    }
+
+    /**
+     * Returns the number of applications of the given type, kept up to date as
+     * applications are added and deleted, so it is read in constant time.
+     * 
+     * @param type the application type
+     * @return the number of applications of the type
+     */
+    public long getAppCountByType(AppType type) {
+        return appList.countByType(type);
+    }
+
+    /**
+     * Returns the number of times the given command moved an application out of the
+     * given state over the last minute. Transitions are only counted while metrics are
+     * enabled.
+     * 
+     * @param from the state the applications were in
+     * @param command the command they were given
+     * @return the number of transitions in the last minute
+     */
+    public long getTransitionsPerMinute(AppState from, CommandValue command) {
+        return metrics.getTransitionRates().getCount(from, command);
+    }
+
+    /**
+     * Retrieves an application by its unique ID.
+     * 
+     * @param id the ID of the application to retrieve
+     * @return the Application associated with the specified ID
+     */
+    public Application getAppById(int id) {
+        return appList.getAppById(id);
+    }
+
+    /**
+     * Executes a given command on the application specified by its ID.
+     * 
+     * @param id the ID of the application to modify
+     * @param command the command to be executed
+     */
+    public void executeCommand(int id, Command command) {
+        long start = metrics.start();
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Application app = appList.getAppById(id);
+            if (app != null) {
+                AppState from = app.getState();
+                appList.executeCommand(id, command);
+                recordCommand(id, command);
+                metrics.transition(from, command.getCommand(), app.getState());
+            }
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        } finally {
+            lock.unlock();
+            metrics.stop(Operation.EXECUTE_COMMAND, start);
+        }
+    }
+
+    /**
+     * Executes a batch of commands, each on the application with its id, in a single
+     * pass over the list. Commands that are not valid for their application, or whose
+     * application does not exist, are reported in the result instead of thrown.
+     * 
+     * @param commands the command to execute for each application id
+     * @return the result for each id of the batch, in id order
+     * @throws IllegalArgumentException if the batch, any of its ids or any of its commands is null
+     */
+    public Map<Integer, CommandResult> executeCommands(Map<Integer, Command> commands) {
+        lockAll();
+        try {
+            Map<Integer, CommandResult> results = appList.executeCommands(commands);
+            for (Map.Entry<Integer, CommandResult> result : results.entrySet()) {
+                if (result.getValue() == CommandResult.APPLIED) {
+                    recordCommand(result.getKey(), commands.get(result.getKey()));
+                }
+            }
+            return results;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Executes the same command on every application whose id is in the given range.
+     * Applications the command is not valid for are reported in the result instead of thrown.
+     * 
+     * @param fromId the smallest id in the range
+     * @param toId the largest id in the range
+     * @param command the command to execute
+     * @return the result for each application in the range, in id order
+     */
+    public Map<Integer, CommandResult> executeCommand(int fromId, int toId, Command command) {
+        lockAll();
+        try {
+            return recordCommands(appList.executeCommand(fromId, toId, command), command);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Executes the same command on every application that matches the filter.
+     * Applications the command is not valid for are reported in the result instead of thrown.
+     * 
+     * @param filter the filter applications must match
+     * @param command the command to execute
+     * @return the result for each matching application, in id order
+     */
+    public Map<Integer, CommandResult> executeCommand(Predicate<Application> filter, Command command) {
+        lockAll();
+        try {
+            return recordCommands(appList.executeCommand(filter, command), command);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Records every application the command was applied to as changed.
+     * 
+     * @param results the results of executing the command
+     * @param command the command that was executed
+     * @return the results
+     */
+    private Map<Integer, CommandResult> recordCommands(Map<Integer, CommandResult> results, Command command) {
+        for (Map.Entry<Integer, CommandResult> result : results.entrySet()) {
+            if (result.getValue() == CommandResult.APPLIED) {
+                recordCommand(result.getKey(), command);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Records that a command was applied to the application with the given id.
+     * 
+     * @param id the id of the application
+     * @param command the command that was applied
+     */
+    private void recordCommand(int id, Command command) {
+        markChanged(id);
+        if (commandLog != null) {
+            commandLog.logCommand(id, command);
+        }
+        rowUpdated(id);
+    }
+
+    /**
+     * Records that the application with the given id was added, updated or deleted.
+     * 
+     * @param id the id of the application
+     */
+    private void markChanged(int id) {
+        synchronized (changedIds) {
+            changedIds.set(id);
+        }
+        AutosaveService service = autosave;
+        if (service != null) {
+            service.changed();
+        }
+    }
+
+    /**
+     * Deletes an application from the list by its ID.
+     * 
+     * @param id the ID of the application to delete
+     */
+    public void deleteAppById(int id) {
+        long start = metrics.start();
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            if (appList.getAppById(id) != null) {
+                appList.deleteAppById(id);
+                markChanged(id);
+                if (commandLog != null) {
+                    commandLog.logDelete(id);
+                }
+                rowDeleted(id);
+            }
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        } finally {
+            lock.unlock();
+            metrics.stop(Operation.DELETE_APP, start);
+        }
+    }
+
+    /**
+     * Adds a new application to the list with the provided details.
+     * 
+     * @param appType the type of the application
+     * @param summary a brief summary of the application
+     * @param note additional notes regarding the application
+     */
+    public void addAppToList(AppType appType, String summary, String note) {
+        long start = metrics.start();
+        try {
+            if (appType == null || summary == null || summary.isEmpty() || note == null || note.isEmpty()) {
+                throw new IllegalArgumentException("Application parameters cannot be null or empty.");
+            }
+            // Lock the stripe of the id the application will get, so no command on the new
+            // application can be logged before its addition; retry if another thread took the id
+            while (true) {
+                int id = appList.nextAppId();
+                ReentrantLock lock = stripe(id);
+                lock.lock();
+                try {
+                    if (appList.nextAppId() == id) {
+                        appList.addApp(appType, summary, note);
+                        markChanged(id);
+                        if (commandLog != null) {
+                            commandLog.logAdd(id, appType, summary, note);
+                        }
+                        rowInserted(id);
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        } finally {
+            metrics.stop(Operation.ADD_APP, start);
+        }
+    }
+}
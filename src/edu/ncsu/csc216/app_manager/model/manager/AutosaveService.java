@@ -0,0 +1,169 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Saves the application list of an AppManager to a file in the background, grouping the
+ * changes made since the last save into a single write. A save starts once a set number
+ * of changes have been made, or at a fixed interval if there are any changes at all.
+ *
+ * Each save writes a temporary file and renames it over the file, so a crash leaves
+ * either the old or the new file, never part of one. The applications are copied one at
+ * a time under their own lock stripe, so commands, additions and deletions only ever wait
+ * for one application to be copied, never for the disk. A change made while a save is
+ * running stays counted, so it is written by the next save.
+ *
+ * Every save runs on the manager's single autosave thread, so saves never overlap and
+ * the final save of a service that was closed runs before any later save.
+ *
+ * @author Praneel Magapu
+ */
+class AutosaveService {
+
+    /** The manager whose list is saved */
+    private final AppManager manager;
+
+    /** File the list is saved to */
+    private final String fileName;
+
+    /** Number of changes that starts a save before the interval is up */
+    private final int changeThreshold;
+
+    /** Thread the saves run on */
+    private final ScheduledExecutorService executor;
+
+    /** Periodic save, cancelled when the service is closed */
+    private final ScheduledFuture<?> periodic;
+
+    /** Number of changes not yet saved */
+    private final AtomicLong dirty;
+
+    /** Whether a save started by the change threshold is queued and has not started yet */
+    private final AtomicBoolean queued;
+
+    /** Snapshot the final save writes, or null to save the manager's current list */
+    private volatile AppListSnapshot finalSnapshot;
+
+    /** Error of the last save, or null if it succeeded */
+    private volatile IllegalArgumentException failure;
+
+    /**
+     * Constructs a service, schedules its periodic saves and queues a save of any changes
+     * the file does not have yet.
+     *
+     * @param manager the manager whose list is saved
+     * @param fileName the file the list is saved to
+     * @param intervalMillis the time between saves, in milliseconds
+     * @param changeThreshold the number of changes that starts a save before the interval is up
+     * @param changes the number of changes not yet saved to the file
+     * @param executor the thread the saves run on
+     */
+    AutosaveService(AppManager manager, String fileName, long intervalMillis, int changeThreshold, long changes,
+            ScheduledExecutorService executor) {
+        this.manager = manager;
+        this.fileName = fileName;
+        this.changeThreshold = changeThreshold;
+        this.executor = executor;
+        this.dirty = new AtomicLong(changes);
+        this.queued = new AtomicBoolean();
+        this.periodic = executor.scheduleWithFixedDelay(this::save, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        if (changes > 0) {
+            submit();
+        }
+    }
+
+    /**
+     * Counts a change, starting a save once enough changes have been made. Never blocks.
+     * Once a save has failed, the next change past the threshold tries again.
+     */
+    void changed() {
+        if (dirty.incrementAndGet() >= changeThreshold) {
+            queue();
+        }
+    }
+
+    /**
+     * Saves every change made so far and waits for the save to finish.
+     *
+     * @throws IllegalArgumentException if the save failed
+     */
+    void flush() {
+        try {
+            executor.submit(this::save).get();
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        IllegalArgumentException error = failure;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Stops the periodic saves and queues a final save of any changes left, without
+     * waiting for it.
+     *
+     * @param last the snapshot to save, as the list is about to be replaced, or null to
+     *        save the manager's list as it is when the final save runs
+     */
+    void close(AppListSnapshot last) {
+        finalSnapshot = last;
+        periodic.cancel(false);
+        submit();
+    }
+
+    /**
+     * Queues a save on the autosave thread unless one is already queued, so a burst of
+     * changes past the threshold queues a single save.
+     */
+    private void queue() {
+        if (queued.compareAndSet(false, true)) {
+            submit();
+        }
+    }
+
+    /**
+     * Queues a save on the autosave thread.
+     */
+    private void submit() {
+        try {
+            executor.execute(this::save);
+        } catch (RejectedExecutionException e) {
+            // The manager is shutting the autosave thread down
+        }
+    }
+
+    /**
+     * Writes the list if it has changed since the last save. Runs on the autosave thread.
+     */
+    private void save() {
+        // Changes counted from here on may need a save of their own
+        queued.set(false);
+        long changes = dirty.get();
+        if (changes == 0) {
+            return;
+        }
+        AppListSnapshot apps = finalSnapshot != null ? finalSnapshot : manager.getAppListSnapshot();
+        try {
+            manager.writeAutosave(fileName, apps);
+            failure = null;
+        } catch (IllegalArgumentException e) {
+            // The changes stay counted, so the next save tries again
+            failure = e;
+            return;
+        }
+        // Changes made during the save were counted after changes was read
+        if (dirty.addAndGet(-changes) >= changeThreshold) {
+            queue();
+        }
+    }
+}
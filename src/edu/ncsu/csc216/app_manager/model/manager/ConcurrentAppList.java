@@ -0,0 +1,46 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+
+/**
+ * An AppList that can be read from any number of threads while it is being changed.
+ * Changes to the list are made under the list's monitor, as in AppList, and published as
+ * a new AppListSnapshot, so lookups by id and iteration read the current snapshot
+ * without locking and never see a half-made change. Queries through the secondary
+ * indexes still take the list's monitor, since the indexes are changed in place. A
+ * command on a single application holds the monitor only to update the indexes
+ * afterwards; callers that run commands from several threads must serialize the
+ * commands on each application, as AppManager does with its lock stripes.
+ *
+ * @author Praneel Magapu
+ */
+public class ConcurrentAppList extends AppList {
+
+    /**
+     * Constructs an empty ConcurrentAppList.
+     */
+    public ConcurrentAppList() {
+        super();
+    }
+
+    /**
+     * Constructs a ConcurrentAppList holding the same applications as the given list,
+     * which continues to give out the same ids.
+     *
+     * @param source the list to copy
+     */
+    ConcurrentAppList(AppList source) {
+        super(source);
+    }
+
+    /**
+     * Returns the application with the specified ID from the current snapshot, without locking.
+     *
+     * @param id the ID of the application to retrieve
+     * @return the application with the specified ID, or null if not found
+     */
+    @Override
+    public Application getAppById(int id) {
+        return getSnapshot().getById(id);
+    }
+}
@@ -0,0 +1,358 @@
+package edu.ncsu.csc216.app_manager.model.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.TransitionRates;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/**
+ * Records how often the operations of AppManager are called, how long they take, which
+ * transitions commands make and which exceptions operations fail with. Recording never
+ * locks: latencies go into a LatencyHistogram per operation and counts into LongAdders.
+ * While the metrics are disabled, which they are until enabled, start returns without
+ * reading the clock and nothing is recorded, so the cost to AppManager is a read of one
+ * volatile field per operation. The per-minute transition rates are installed in
+ * Application only while the metrics are enabled, so Application.update pays the same.
+ *
+ * The metrics are read through the getters, through JMX once registered, or pushed to a
+ * MetricsExporter with export.
+ *
+ * @author Praneel Magapu
+ */
+public class AppManagerMetrics implements AppManagerMetricsMXBean {
+
+    /** Name the metrics are registered under with the platform MBean server */
+    public static final String OBJECT_NAME = "edu.ncsu.csc216.app_manager:type=AppManagerMetrics";
+
+    /** Start time returned by start while the metrics are disabled */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    /** Every state, in ordinal order */
+    private static final AppState[] STATES = AppState.values();
+
+    /** Every command value, in ordinal order */
+    private static final CommandValue[] COMMANDS = CommandValue.values();
+
+    /** Whether operations are recorded */
+    private volatile boolean enabled;
+
+    /** Whether the metrics are registered with the platform MBean server */
+    private boolean registered;
+
+    /** Latencies of each operation, by ordinal */
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Operation.values().length];
+
+    /** Count of each transition, by transitionIndex */
+    private final LongAdder[] transitions = new LongAdder[STATES.length * COMMANDS.length * STATES.length];
+
+    /** Count of the failures by exception class name */
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    /** Counts of the transitions made over the last minute, by second */
+    private final TransitionRates transitionRates = new TransitionRates(60, 1000);
+
+    /**
+     * The operations of AppManager that are recorded.
+     */
+    public enum Operation {
+        /** executeCommand on a single application */
+        EXECUTE_COMMAND("executeCommand"),
+        /** addAppToList */
+        ADD_APP("addAppToList"),
+        /** deleteAppById */
+        DELETE_APP("deleteAppById"),
+        /** loadAppsFromFile and loadAppsFromFileInParallel */
+        LOAD("loadAppsFromFile"),
+        /** saveAppsToFile */
+        SAVE("saveAppsToFile"),
+        /** getAppListAsArray */
+        LIST_AS_ARRAY("getAppListAsArray"),
+        /** getAppListAsArrayByAppType */
+        LIST_AS_ARRAY_BY_TYPE("getAppListAsArrayByAppType");
+
+        /** Name of the AppManager method */
+        private final String operationName;
+
+        /**
+         * Constructs an operation.
+         *
+         * @param operationName the name of the AppManager method
+         */
+        Operation(String operationName) {
+            this.operationName = operationName;
+        }
+
+        /**
+         * Returns the name of the AppManager method.
+         *
+         * @return the name of the operation
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+    }
+
+    /**
+     * Constructs disabled, empty metrics.
+     */
+    public AppManagerMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < transitions.length; i++) {
+            transitions[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        Application.setTransitionRates(enabled ? transitionRates : null);
+    }
+
+    /**
+     * Returns the counts of the transitions made over the last minute, which are only
+     * recorded while the metrics are enabled.
+     *
+     * @return the transition counts
+     */
+    public TransitionRates getTransitionRates() {
+        return transitionRates;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under OBJECT_NAME, unless they
+     * are registered already.
+     *
+     * @throws IllegalStateException if the metrics cannot be registered
+     */
+    public synchronized void register() {
+        if (registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Other metrics are already registered.");
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register metrics.");
+        }
+        registered = true;
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return the start time to pass to stop, or NOT_TIMED if the metrics are disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Records an operation that was started with start.
+     *
+     * @param operation the operation
+     * @param start the time start returned
+     */
+    public void stop(Operation operation, long start) {
+        if (start != NOT_TIMED) {
+            latencies[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a transition made by a command.
+     *
+     * @param from the state before the command
+     * @param command the command
+     * @param to the state after the command
+     */
+    public void transition(AppState from, CommandValue command, AppState to) {
+        if (enabled) {
+            transitions[transitionIndex(from, command, to)].increment();
+        }
+    }
+
+    /**
+     * Records an operation that failed.
+     *
+     * @param e the exception the operation failed with
+     */
+    public void failed(RuntimeException e) {
+        if (enabled) {
+            failures.computeIfAbsent(e.getClass().getName(), type -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Returns the latencies of an operation.
+     *
+     * @param operation the operation
+     * @return the latencies of the operation, in nanoseconds
+     */
+    public LatencyHistogram getLatencies(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    /**
+     * Returns the number of times a command took an application from one state to another.
+     *
+     * @param from the state before the command
+     * @param command the command
+     * @param to the state after the command
+     * @return the number of times
+     */
+    public long getTransitionCount(AppState from, CommandValue command, AppState to) {
+        return transitions[transitionIndex(from, command, to)].sum();
+    }
+
+    /**
+     * Returns the number of operations that failed with an exception of the given type.
+     *
+     * @param exceptionType the class of the exception
+     * @return the number of failures
+     */
+    public long getFailureCount(Class<? extends RuntimeException> exceptionType) {
+        LongAdder count = failures.get(exceptionType.getName());
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Pushes every operation, transition and failure recorded at least once to the exporter.
+     *
+     * @param exporter the exporter
+     */
+    public void export(MetricsExporter exporter) {
+        for (Operation operation : Operation.values()) {
+            if (latencies[operation.ordinal()].getCount() > 0) {
+                exporter.operation(operation, latencies[operation.ordinal()]);
+            }
+        }
+        for (int i = 0; i < transitions.length; i++) {
+            long count = transitions[i].sum();
+            if (count > 0) {
+                int to = i % STATES.length;
+                int command = i / STATES.length % COMMANDS.length;
+                int from = i / STATES.length / COMMANDS.length;
+                exporter.transition(STATES[from], COMMANDS[command], STATES[to], count);
+            }
+        }
+        for (Map.Entry<String, LongAdder> failure : new TreeMap<>(failures).entrySet()) {
+            exporter.failure(failure.getKey(), failure.getValue().sum());
+        }
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencies() {
+        Map<String, Double> means = new TreeMap<>();
+        for (Operation operation : Operation.values()) {
+            means.put(operation.getOperationName(), latencies[operation.ordinal()].getMean());
+        }
+        return means;
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencies() {
+        return byOperation(histogram -> histogram.getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99Latencies() {
+        return byOperation(histogram -> histogram.getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencies() {
+        return byOperation(LatencyHistogram::getMax);
+    }
+
+    @Override
+    public Map<String, Long> getTransitionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        export(new MetricsExporter() {
+            @Override
+            public void operation(Operation operation, LatencyHistogram histogram) {
+                // Only the transitions are collected
+            }
+
+            @Override
+            public void transition(AppState from, CommandValue command, AppState to, long count) {
+                counts.put(from.getStateName() + "," + command + "," + to.getStateName(), count);
+            }
+
+            @Override
+            public void failure(String exceptionType, long count) {
+                // Only the transitions are collected
+            }
+        });
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> failure : failures.entrySet()) {
+            counts.put(failure.getKey(), failure.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : latencies) {
+            histogram.reset();
+        }
+        for (LongAdder count : transitions) {
+            count.reset();
+        }
+        failures.clear();
+    }
+
+    /**
+     * Returns a value of the latencies of each operation, keyed by operation name.
+     *
+     * @param value the value of a histogram
+     * @return the value for each operation
+     */
+    private Map<String, Long> byOperation(ToLongFunction<LatencyHistogram> value) {
+        Map<String, Long> values = new TreeMap<>();
+        for (Operation operation : Operation.values()) {
+            values.put(operation.getOperationName(), value.applyAsLong(latencies[operation.ordinal()]));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the position of a transition in transitions.
+     *
+     * @param from the state before the command
+     * @param command the command
+     * @param to the state after the command
+     * @return the index of the transition
+     */
+    private static int transitionIndex(AppState from, CommandValue command, AppState to) {
+        return (from.ordinal() * COMMANDS.length + command.ordinal()) * STATES.length + to.ordinal();
+    }
+}
@@ -0,0 +1,82 @@
+package edu.ncsu.csc216.app_manager.model.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of AppManagerMetrics, through which JMX clients such as JConsole
+ * read the metrics and switch them on and off. Latencies are in nanoseconds, and maps are
+ * keyed by operation name, by "from,command,to" for transitions, and by exception class
+ * name for failures.
+ *
+ * @author Praneel Magapu
+ */
+public interface AppManagerMetricsMXBean {
+
+    /**
+     * Returns whether operations are being recorded.
+     *
+     * @return true if operations are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops recording operations.
+     *
+     * @param enabled whether operations are recorded
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of times each operation was called.
+     *
+     * @return the count of each operation
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the mean latency of each operation.
+     *
+     * @return the mean latency of each operation
+     */
+    Map<String, Double> getMeanLatencies();
+
+    /**
+     * Returns the median latency of each operation.
+     *
+     * @return the median latency of each operation
+     */
+    Map<String, Long> getMedianLatencies();
+
+    /**
+     * Returns the 99th percentile latency of each operation.
+     *
+     * @return the 99th percentile latency of each operation
+     */
+    Map<String, Long> getP99Latencies();
+
+    /**
+     * Returns the largest latency of each operation.
+     *
+     * @return the largest latency of each operation
+     */
+    Map<String, Long> getMaxLatencies();
+
+    /**
+     * Returns the number of times each command took an application from one state to another.
+     *
+     * @return the count of each transition
+     */
+    Map<String, Long> getTransitionCounts();
+
+    /**
+     * Returns the number of operations that failed with each type of exception.
+     *
+     * @return the count of each type of exception
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Clears every metric.
+     */
+    void reset();
+}
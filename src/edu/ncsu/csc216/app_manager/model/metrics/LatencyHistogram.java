@@ -0,0 +1,159 @@
+package edu.ncsu.csc216.app_manager.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in nanoseconds that many threads can record into without
+ * locking. As in HdrHistogram, each power of two is split into a fixed number of equal
+ * sub-buckets, so every recorded value is kept to within about one and a half percent
+ * in a fixed amount of memory, however large the values get. Values from zero up to
+ * the number of sub-buckets are kept exactly, and values past MAX_VALUE are counted as
+ * MAX_VALUE.
+ *
+ * Reads are not atomic with respect to recording, so a percentile read while other
+ * threads record may miss their latest values, but never sees a count go down.
+ *
+ * @author Praneel Magapu
+ */
+public class LatencyHistogram {
+
+    /** Largest value kept, about 73 minutes in nanoseconds */
+    public static final long MAX_VALUE = (1L << 42) - 1;
+
+    /** Number of bits of each value kept, which sets the number of sub-buckets */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /** Number of sub-buckets each power of two is split into */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Count of the values recorded in each bucket */
+    private final AtomicLongArray counts = new AtomicLongArray(index(MAX_VALUE) + 1);
+
+    /** Number of values recorded */
+    private final LongAdder count = new LongAdder();
+
+    /** Sum of the values recorded */
+    private final LongAdder sum = new LongAdder();
+
+    /** Largest value recorded */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value.
+     *
+     * @param nanos the value, in nanoseconds; negative values are counted as zero
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return the largest value, or 0 if none has been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the values recorded.
+     *
+     * @return the mean, or 0 if no value has been recorded
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the value at the given percentile, as the largest value of the bucket that
+     * holds it, but no more than the largest value recorded.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value at the percentile, or 0 if no value has been recorded
+     * @throws IllegalArgumentException if the percentile is not from 0 to 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile.");
+        }
+        long[] snapshot = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears every value recorded. Values recorded by other threads while the histogram
+     * is cleared may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Returns the bucket of a value. Values below SUB_BUCKETS have a bucket each; above
+     * that, each power of two has SUB_BUCKETS buckets, picked by the bits of the value
+     * after its highest one.
+     *
+     * @param value the value, from 0 to MAX_VALUE
+     * @return the bucket
+     */
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest value that falls in a bucket.
+     *
+     * @param index the bucket
+     * @return the largest value of the bucket
+     */
+    private static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,40 @@
+package edu.ncsu.csc216.app_manager.model.metrics;
+
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/**
+ * Receives the metrics of AppManager when they are exported with AppManagerMetrics.export,
+ * so they can be sent to any monitoring system. Only operations, transitions and failures
+ * that have happened at least once are exported.
+ *
+ * @author Praneel Magapu
+ */
+public interface MetricsExporter {
+
+    /**
+     * Receives the latencies of an operation.
+     *
+     * @param operation the operation
+     * @param latencies the latencies of the operation, in nanoseconds
+     */
+    void operation(AppManagerMetrics.Operation operation, LatencyHistogram latencies);
+
+    /**
+     * Receives the number of times a command took applications from one state to another.
+     *
+     * @param from the state before the command
+     * @param command the command
+     * @param to the state after the command
+     * @param count the number of times
+     */
+    void transition(AppState from, CommandValue command, AppState to, long count);
+
+    /**
+     * Receives the number of operations that failed with an exception of the given type.
+     *
+     * @param exceptionType the class name of the exception
+     * @param count the number of failures
+     */
+    void failure(String exceptionType, long count);
+}
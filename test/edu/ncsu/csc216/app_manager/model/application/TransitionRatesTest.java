@@ -0,0 +1,71 @@
+package edu.ncsu.csc216.app_manager.model.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * Tests the TransitionRates class.
+ *
+ * @author Praneel Magapu
+ */
+public class TransitionRatesTest {
+
+    /**
+     * Tests that transitions are counted within the window and dropped once it has passed.
+     */
+    @Test
+    public void testSlidingWindow() {
+        AtomicLong now = new AtomicLong(1_000_000);
+        TransitionRates rates = new TransitionRates(3, 1000, now::get);
+        assertEquals(3000, rates.getWindowMillis());
+        rates.record(AppState.INTERVIEW, CommandValue.ACCEPT);
+        rates.record(AppState.INTERVIEW, CommandValue.ACCEPT);
+        rates.record(AppState.REVIEW, CommandValue.ACCEPT);
+        assertEquals(2, rates.getCount(AppState.INTERVIEW, CommandValue.ACCEPT));
+        assertEquals(1, rates.getCount(AppState.REVIEW, CommandValue.ACCEPT));
+        assertEquals(0, rates.getCount(AppState.INTERVIEW, CommandValue.REJECT));
+
+        now.addAndGet(1500);
+        rates.record(AppState.INTERVIEW, CommandValue.ACCEPT);
+        assertEquals(3, rates.getCount(AppState.INTERVIEW, CommandValue.ACCEPT));
+
+        // The first bucket leaves the window, and its slot is reused
+        now.addAndGet(1500);
+        assertEquals(1, rates.getCount(AppState.INTERVIEW, CommandValue.ACCEPT));
+        rates.record(AppState.INTERVIEW, CommandValue.ACCEPT);
+        assertEquals(2, rates.getCount(AppState.INTERVIEW, CommandValue.ACCEPT));
+
+        now.addAndGet(10000);
+        assertEquals(0, rates.getCount(AppState.INTERVIEW, CommandValue.ACCEPT));
+        assertThrows(IllegalArgumentException.class, () -> new TransitionRates(0, 1000));
+    }
+
+    /**
+     * Tests that Application.update counts its transitions only while rates are installed.
+     */
+    @Test
+    public void testApplicationUpdate() {
+        TransitionRates rates = new TransitionRates(60, 1000);
+        Application.setTransitionRates(rates);
+        try {
+            Application app = new Application(1, AppType.NEW, "Summary", "Note");
+            app.update(new Command(CommandValue.STANDBY, null, Resolution.REVCOMPLETED, "Waitlisted"));
+            assertEquals(1, rates.getCount(AppState.REVIEW, CommandValue.STANDBY));
+        } finally {
+            Application.setTransitionRates(null);
+        }
+        Application app = new Application(2, AppType.NEW, "Summary", "Note");
+        app.update(new Command(CommandValue.STANDBY, null, Resolution.REVCOMPLETED, "Waitlisted"));
+        assertEquals(1, rates.getCount(AppState.REVIEW, CommandValue.STANDBY));
+    }
+}
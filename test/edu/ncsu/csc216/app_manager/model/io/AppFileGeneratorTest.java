@@ -0,0 +1,118 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/**
+ * Tests the AppFileGenerator class.
+ *
+ * @author Praneel Magapu
+ */
+public class AppFileGeneratorTest {
+
+    /**
+     * Tests that a generated file loads back into the same applications, through each
+     * way AppReader reads a file.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testWriteToFile() throws IOException {
+        AppFileGenerator generator = new AppFileGenerator(7);
+        generator.setRecords(2000);
+        generator.setNotesPerRecord(3);
+        Path file = Files.createTempFile("generated", ".txt");
+        try {
+            generator.writeToFile(file.toString());
+            List<Application> generated = generator.generateApps();
+            assertEquals(2000, generated.size());
+            assertSameApps(generated, AppReader.readAppsFromFile(file.toString()));
+            assertSameApps(generated, AppReader.readAppsFromMappedFile(file.toString()));
+            assertSameApps(generated, AppReader.readAppsFromFileInParallel(file.toString()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that the applications follow the settings and are repeatable for a seed.
+     */
+    @Test
+    public void testSettings() {
+        AppFileGenerator generator = new AppFileGenerator(3);
+        generator.setRecords(500);
+        generator.setNotesPerRecord(5);
+        generator.setReviewers(2);
+        generator.setStateWeight(AppState.REVIEW, 0);
+        generator.setStateWeight(AppState.CLOSED, 0);
+        generator.setTypeWeight(AppType.NEW, 0);
+        List<Application> apps = generator.generateApps();
+
+        Set<String> reviewers = new HashSet<>();
+        Set<AppState> states = new HashSet<>();
+        for (int i = 0; i < apps.size(); i++) {
+            Application app = apps.get(i);
+            assertEquals(i + 1, app.getAppId());
+            assertTrue(app.getNotes().size() >= 5);
+            if (!app.getReviewer().isEmpty()) {
+                reviewers.add(app.getReviewer());
+            }
+            states.add(app.getState());
+            // Only applications in RefCheck are New when New has no weight
+            assertEquals(app.getState() == AppState.REFCHK ? AppType.NEW : AppType.OLD, app.getType());
+        }
+        assertTrue(reviewers.size() <= 2);
+        assertEquals(Set.of(AppState.INTERVIEW, AppState.WAITLIST, AppState.REFCHK, AppState.OFFER), states);
+
+        List<Application> again = generator.generateApps();
+        assertSameApps(apps, again);
+        AppFileGenerator other = new AppFileGenerator(4);
+        other.setRecords(500);
+        assertNotEquals(apps.toString(), other.generateApps().toString());
+    }
+
+    /**
+     * Tests that invalid settings are rejected.
+     */
+    @Test
+    public void testInvalidSettings() {
+        AppFileGenerator generator = new AppFileGenerator(0);
+        assertThrows(IllegalArgumentException.class, () -> generator.setRecords(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.setNotesPerRecord(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setReviewers(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setStateWeight(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.setStateWeight(AppState.OFFER, -1));
+        assertThrows(IllegalArgumentException.class, () -> generator.setTypeWeight(AppType.HIRED, 1));
+        generator.setTypeWeight(AppType.NEW, 0);
+        generator.setTypeWeight(AppType.OLD, 0);
+        assertThrows(IllegalArgumentException.class, () -> generator.applications());
+    }
+
+    /**
+     * Asserts that two lists hold the same applications, record for record.
+     *
+     * @param expected the expected applications
+     * @param actual the actual applications
+     */
+    private static void assertSameApps(List<Application> expected, List<Application> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+}
@@ -1,50 +1,279 @@
-package edu.ncsu.csc216.app_manager.model.io;
-
-import org.junit.jupiter.api.Test;
-import edu.ncsu.csc216.app_manager.model.application.Application;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertThrows;
-import static org.junit.Assert.fail;
-
-import java.util.List;
-
-/**
- * Test class for AppReader functionality.
- * 
- * @author Praneel Magapu
- */
-public class AppReaderTest {
-
-    /**
-     * Tests reading applications from a valid file.
-     */
-    @Test
-    public void testReadAppsFromFile() {
-    	
-    	@SuppressWarnings("unused")
-    	AppReader reader = new AppReader();
-    	
-        List<Application> application = AppReader.readAppsFromFile("test-files/app17.txt");
-        assertEquals(1, application.size());
-
-        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile("invalid.txt"));
-    }
-    
-    /**
-     * Tests the handling of malformed application data.
-     */
-    @Test
-    public void testProcessApplicationErrorViaFile() {
-        // Create a malformed application data file
-        String malformedAppData = "1,Submitted,,Summary,Reviewer,false\nResolution without notes";
-        try {
-            java.nio.file.Files.write(java.nio.file.Paths.get("test-files/malformed_app.txt"), malformedAppData.getBytes());
-        } catch (java.io.IOException e) {
-            fail("Failed to create malformed app data file.");
-        }
-
-        // Attempt to read the malformed file and expect an IllegalArgumentException
-        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile("test-files/malformed_app.txt"));
-    }
-}
+package edu.ncsu.csc216.app_manager.model.io;
+
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for AppReader functionality.
+ * 
+ * @author Praneel Magapu
+ */
+public class AppReaderTest {
+
+    /**
+     * Tests reading applications from a valid file.
+     */
+    @Test
+    public void testReadAppsFromFile() {
+    	
+    	@SuppressWarnings("unused")
+    	AppReader reader = new AppReader();
+    	
+        List<Application> application = AppReader.readAppsFromFile("test-files/app17.txt");
+        assertEquals(1, application.size());
+
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile("invalid.txt"));
+    }
+    
+    /**
+     * Tests the handling of malformed application data.
+     */
+    @Test
+    public void testProcessApplicationErrorViaFile() {
+        // Create a malformed application data file
+        String malformedAppData = "1,Submitted,,Summary,Reviewer,false\nResolution without notes";
+        try {
+            java.nio.file.Files.write(java.nio.file.Paths.get("test-files/malformed_app.txt"), malformedAppData.getBytes());
+        } catch (java.io.IOException e) {
+            fail("Failed to create malformed app data file.");
+        }
+
+        // Attempt to read the malformed file and expect an IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile("test-files/malformed_app.txt"));
+    }
+
+    /**
+     * Tests that records, fields and multi-line notes are split the same way as the file format defines.
+     */
+    @Test
+    public void testReadRecordsAndNotes() {
+        List<Application> applications = AppReader.readAppsFromFile("test-files/app1.txt");
+        assertEquals(6, applications.size());
+        assertEquals(1, applications.get(0).getAppId());
+        assertEquals(15, applications.get(5).getAppId());
+
+        Application interview = applications.get(1);
+        assertEquals(3, interview.getAppId());
+        assertEquals("Interview", interview.getStateName());
+        assertEquals("Old", interview.getAppType());
+        assertEquals("Application summary", interview.getSummary());
+        assertEquals("reviewer", interview.getReviewer());
+        assertEquals(2, interview.getNotes().size());
+        assertEquals("[Review] Note 1", interview.getNotes().get(0));
+        assertTrue(interview.getNotes().get(1).startsWith("[Interview] Note 2"));
+        assertTrue(interview.getNotes().get(1).endsWith("that goes on a new line"));
+
+        Application offer = applications.get(4);
+        assertTrue(offer.isProcessed());
+        assertEquals(4, offer.getNotes().size());
+    }
+
+    /**
+     * Tests that the memory-mapped reader reads the same applications as the streaming reader.
+     */
+    @Test
+    public void testReadAppsFromMappedFile() {
+        List<Application> expected = AppReader.readAppsFromFile("test-files/app2.txt");
+        List<Application> actual = AppReader.readAppsFromMappedFile("test-files/app2.txt");
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromMappedFile("invalid.txt"));
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromMappedFile("test-files/app3.txt"));
+    }
+
+    /**
+     * Tests that the parallel reader returns the applications of the file sorted by id.
+     */
+    @Test
+    public void testReadAppsFromFileInParallel() {
+        List<Application> applications = AppReader.readAppsFromFileInParallel("test-files/app1.txt");
+        assertEquals(6, applications.size());
+        int[] ids = {1, 3, 7, 14, 15, 16};
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], applications.get(i).getAppId());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFileInParallel("invalid.txt"));
+        assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFileInParallel("test-files/app5.txt"));
+    }
+
+    /**
+     * Tests that the parallel reader splits a file into many chunks at record boundaries
+     * and merges them by id, keeping applications with the same id in file order.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testReadAppsFromFileInParallelChunks() throws IOException {
+        // Every id appears twice, with different contents, and the records are shuffled
+        List<Application> apps = new ArrayList<>();
+        for (long seed = 1; seed <= 2; seed++) {
+            AppFileGenerator generator = new AppFileGenerator(seed);
+            generator.setRecords(500);
+            apps.addAll(generator.generateApps());
+        }
+        Collections.shuffle(apps, new Random(11));
+        Path file = Files.createTempFile("chunks", ".txt");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AppWriter.writeAppsToFile(file.toString(), apps);
+            List<Application> expected = AppReader.readAppsFromFile(file.toString());
+            expected.sort(Comparator.comparingInt(Application::getAppId));
+
+            // As many chunks as the pool takes, and a few large ones
+            for (int minChunk : new int[] {256, 64 * 1024}) {
+                List<Application> actual = AppReader.readAppsFromFileInParallel(file.toString(), pool, minChunk);
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).toString(), actual.get(i).toString());
+                }
+            }
+            // More chunks than records, so some boundaries find no record after them
+            List<Application> small = AppReader.readAppsFromFileInParallel("test-files/app1.txt", pool, 1);
+            assertEquals(6, small.size());
+            assertEquals(16, small.get(5).getAppId());
+        } finally {
+            pool.shutdown();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that reading in batches hands over every application in file order and can be cancelled.
+     */
+    @Test
+    public void testReadAppsFromFileInBatches() {
+        List<Application> expected = AppReader.readAppsFromFile("test-files/app1.txt");
+        List<Application> actual = new ArrayList<>();
+        long[] lastBytes = new long[1];
+        AppReader.readAppsFromFile("test-files/app1.txt", actual::addAll, (records, bytes) -> {
+            assertEquals(actual.size(), records);
+            lastBytes[0] = bytes;
+            return true;
+        });
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+        assertEquals(new File("test-files/app1.txt").length(), lastBytes[0]);
+
+        assertThrows(CancellationException.class,
+                () -> AppReader.readAppsFromFile("test-files/app1.txt", batch -> { }, (records, bytes) -> false));
+        assertThrows(IllegalArgumentException.class,
+                () -> AppReader.readAppsFromFile("invalid.txt", batch -> { }, (records, bytes) -> true));
+    }
+
+    /**
+     * Tests that binary files are recognized by their header and that damaged ones are rejected.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testReadBinaryFile() throws IOException {
+        Path binaryFile = Paths.get("test-files/act_app_binary.bin");
+        try {
+            List<Application> expected = AppReader.readAppsFromFile("test-files/app1.txt");
+            AppWriter.writeAppsToBinaryFile(binaryFile.toString(), expected);
+            List<List<Application>> readers = List.of(AppReader.readAppsFromFile(binaryFile.toString()),
+                    AppReader.readAppsFromBinaryFile(binaryFile.toString()),
+                    AppReader.readAppsFromMappedFile(binaryFile.toString()));
+            for (List<Application> actual : readers) {
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).toString(), actual.get(i).toString());
+                }
+            }
+            List<Application> sorted = AppReader.readAppsFromFileInParallel(binaryFile.toString());
+            assertEquals(15, sorted.get(4).getAppId());
+
+            byte[] bytes = Files.readAllBytes(binaryFile);
+            Files.write(binaryFile, Arrays.copyOf(bytes, bytes.length - 3));
+            assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile(binaryFile.toString()));
+            bytes[4] = 99;
+            Files.write(binaryFile, bytes);
+            assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile(binaryFile.toString()));
+
+            // A record length far past the end of the file is rejected before it is allocated
+            byte[] huge = Arrays.copyOf(bytes, 12);
+            huge[4] = BinaryFormat.VERSION;
+            huge[5] = huge[6] = huge[7] = huge[8] = (byte) 0xFF;
+            huge[9] = 0x07;
+            Files.write(binaryFile, huge);
+            assertThrows(IllegalArgumentException.class, () -> AppReader.readAppsFromFile(binaryFile.toString()));
+        } finally {
+            Files.deleteIfExists(binaryFile);
+        }
+    }
+
+    /**
+     * Tests reading the records of applications that were never given a reviewer, which
+     * are written without the reviewer field.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testReadAppsWithoutReviewer() throws IOException {
+        Application review = new Application(1, AppType.NEW, "Summary 1", "Note 1");
+        Application closed = new Application(2, AppType.OLD, "Summary 2", "Note 2");
+        closed.update(new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected"));
+        Path file = Files.createTempFile("reviewer", ".txt");
+        try {
+            AppWriter.writeAppsToFile(file.toString(), List.of(review, closed));
+            List<Application> apps = AppReader.readAppsFromFile(file.toString());
+            assertEquals(2, apps.size());
+            assertEquals("Review", apps.get(0).getStateName());
+            assertEquals("", apps.get(0).getReviewer());
+            assertEquals(review.getNotesString(), apps.get(0).getNotesString());
+            assertEquals("Closed", apps.get(1).getStateName());
+            assertEquals("", apps.get(1).getReviewer());
+            assertEquals(closed.getResolution(), apps.get(1).getResolution());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that each reader drops the comma AppWriter ends a resolution with, and still
+     * reads a resolution written without one.
+     */
+    @Test
+    public void testReadResolutionWithTrailingComma() {
+        List<List<Application>> reads = List.of(AppReader.readAppsFromFile("test-files/app19.txt"),
+                AppReader.readAppsFromMappedFile("test-files/app19.txt"),
+                AppReader.readAppsFromFileInParallel("test-files/app19.txt"));
+        for (List<Application> apps : reads) {
+            assertEquals(4, apps.size());
+            assertNull(apps.get(0).getResolution());
+            assertEquals("OfferCompleted", apps.get(1).getResolution());
+            assertEquals("InterviewCompleted", apps.get(2).getResolution());
+            assertEquals("ReviewCompleted", apps.get(3).getResolution());
+        }
+    }
+}
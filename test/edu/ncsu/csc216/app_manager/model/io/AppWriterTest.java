@@ -1,206 +1,372 @@
-package edu.ncsu.csc216.app_manager.model.io;
-
-import static org.junit.Assert.assertThrows;
-import static org.junit.Assert.assertTrue;
-import static org.junit.Assert.fail;
-import static org.junit.Assert.assertEquals;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
-import org.junit.Test;
-
-import edu.ncsu.csc216.app_manager.model.application.Application;
-import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
-
-/**
- * This class tests the functionality of the AppWriter class
- * 
- */
-public class AppWriterTest {
-
-    /** List of applications used in tests */
-	@SuppressWarnings("unused")
-    private List<Application> apps;
-
-    /** Directory for test files */
-    private static final String EXPECTED_FILES_PATH = "test-files/";
-
-    /**
-     * Tests the instantiation of the AppWriter class.
-     */
-    @Test
-    public void testAppWriter() {
-        AppWriter aw = new AppWriter();
-        assertTrue(aw instanceof AppWriter);
-    }
-
-    /**
-     * Tests writing a list of applications to a file.
-     */
-    @Test
-    public void testWriteAppsToFile() {
-        ArrayList<Application> appArray = new ArrayList<>();
-        ArrayList<String> notes = new ArrayList<String>();
-        notes.add("test note");
-        appArray.add(new Application(1, AppType.NEW, "summary", "note"));
-        try {
-            AppWriter.writeAppsToFile("test-files/act_app_closed.txt", appArray);
-        } catch (IllegalArgumentException e) {
-            fail("Cannot write to file.");
-        }
-        // Assert to check file write success
-        assertTrue(Files.exists(Paths.get("test-files/act_app_closed.txt")));
-    }
-
-    /**
-     * Compares the contents of two files line by line.
-     *
-     * @param expectedFile the expected file path
-     * @param actualFile the actual file path
-     * @throws IOException if an I/O error occurs reading from the stream
-     */
-    private void compareFiles(String expectedFile, String actualFile) throws IOException {
-        List<String> expectedLines = Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + expectedFile));
-        List<String> actualLines = Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + actualFile));
-        assertEquals(expectedLines, actualLines);
-    }
-
-    /**
-     * Tests writing an application with an "Interview" status to a file and compares it with an expected file.
-     *
-     * @throws IOException if an I/O error occurs reading from or writing to a file
-     */
-    @Test
-    public void testWriteAppInterview() throws IOException {
-        List<Application> apps1 = new ArrayList<>();
-        ArrayList<String> notes = new ArrayList<>();
-        notes.add("[Review] note 1");
-        notes.add("[Interview] note 2");
-
-        apps1.add(new Application(5, "Interview", "Old", "Application summary", "reviewer", false, "", notes));
-
-        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_interview.txt", apps1);
-
-        compareFiles("exp_app_interview.txt", "act_app_interview.txt");
-        assertTrue(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_interview.txt"))); // Explicit assert
-    }
-
-    /**
-     * Tests writing an application with an "Offer" status to a file and compares it with an expected file.
-     *
-     * @throws IOException if an I/O error occurs reading from or writing to a file
-     */
-    @Test
-    public void testWriteAppOffer() throws IOException {
-        List<Application> apps3 = new ArrayList<>();
-        ArrayList<String> notes = new ArrayList<>();
-        notes.add("[Review] note 1");
-        notes.add("[Interview] note 2");
-        notes.add("[RefCheck] note 3");
-        notes.add("[Offer] note 4");
-
-        apps3.add(new Application(1, "Offer", "Old", "Application summary", "reviewer2", true, "", notes));
-
-        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_offer.txt", apps3);
-
-        compareFiles("exp_app_offer.txt", "act_app_offer.txt");
-        assertTrue(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_offer.txt"))); // Explicit assert
-    }
-
-    /**
-     * Tests writing an application with a "RefCheck" status to a file and compares it with an expected file.
-     *
-     * @throws IOException if an I/O error occurs reading from or writing to a file
-     */
-    @Test
-    public void testWriteAppRefCheck() throws IOException {
-        List<Application> apps2 = new ArrayList<>();
-        ArrayList<String> notes = new ArrayList<>();
-        notes.add("[Review] note 1");
-        notes.add("[Interview] note 2");
-        notes.add("[RefCheck] note 3");
-
-        apps2.add(new Application(7, "RefCheck", "Old", "Application summary", "reviewer", true, "", notes));
-
-        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_refcheck.txt", apps2);
-
-        compareFiles("exp_app_refcheck.txt", "act_app_refcheck.txt");
-        assertTrue(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_refcheck.txt"))); // Explicit assert
-    }
-
-    /**
-     * Tests that providing a null filename throws an IllegalArgumentException.
-     */
-    @Test
-    public void testNullFileNameThrowsIllegalArgumentException() {
-        List<Application> apps4 = new ArrayList<>();
-
-		// Add a valid application to the list for the sake of the test
-		apps4.add(new Application(1, AppType.NEW, "summary", "note"));
-
-		assertThrows(IllegalArgumentException.class, () -> {
-		    AppWriter.writeAppsToFile(null, apps4);
-		});
-    }
-
-    /**
-     * Tests that providing an empty filename throws an IllegalArgumentException.
-     */
-    @Test
-    public void testEmptyFileNameThrowsIllegalArgumentException() {
-		List<Application> apps5 = new ArrayList<>();
-
-		// Add a valid application to the list for the sake of the test
-		apps5.add(new Application(1, AppType.NEW, "summary", "note"));
-
-		assertThrows(IllegalArgumentException.class, () -> {
-		    AppWriter.writeAppsToFile("", apps5);
-		});
-	}
-
-	/**
-	 * Tests that providing null applications throws an IllegalArgumentException.
-	 */
-	@Test
-	public void testNullAppsThrowsIllegalArgumentException() {
-		assertThrows(IllegalArgumentException.class, () -> {
-		    AppWriter.writeAppsToFile("test-files/act_null_apps.txt", null);
-		});
-	}
-
-	/**
-	 * Tests that providing a null note in Application constructor throws an IllegalArgumentException.
-	 */
-	@Test
-	public void testNullNoteInApplicationConstructorThrowsIllegalArgumentException() {
-		assertThrows(IllegalArgumentException.class, () -> {
-		    new Application(1, AppType.NEW, "summary", null);
-		});
-	}
-
-	/**
-	 * Tests that providing an empty summary in Application constructor throws an IllegalArgumentException.
-	 */
-	@Test
-	public void testEmptySummaryInApplicationConstructorThrowsIllegalArgumentException() {
-		assertThrows(IllegalArgumentException.class, () -> {
-		    new Application(1, AppType.NEW, "", "note");
-		});
-	}
-
-	/**
-     * Tests handling of IOExceptions when attempting to write to an invalid path.
-     */
-    @Test
-    public void testIOExceptionHandling() {
-		List<Application> apps6 = new ArrayList<>();
-		apps6.add(new Application(1, AppType.NEW, "summary", "note"));
-
-		assertThrows(IllegalArgumentException.class, () -> {
-		    AppWriter.writeAppsToFile("/invalid/path/act_io_exception.txt", apps6);
-		});
-	}
-}
\ No newline at end of file
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import org.junit.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/**
+ * This class tests the functionality of the AppWriter class
+ * 
+ */
+public class AppWriterTest {
+
+    /** List of applications used in tests */
+	@SuppressWarnings("unused")
+    private List<Application> apps;
+
+    /** Directory for test files */
+    private static final String EXPECTED_FILES_PATH = "test-files/";
+
+    /**
+     * Tests the instantiation of the AppWriter class.
+     */
+    @Test
+    public void testAppWriter() {
+        AppWriter aw = new AppWriter();
+        assertTrue(aw instanceof AppWriter);
+    }
+
+    /**
+     * Tests writing a list of applications to a file.
+     */
+    @Test
+    public void testWriteAppsToFile() {
+        ArrayList<Application> appArray = new ArrayList<>();
+        ArrayList<String> notes = new ArrayList<String>();
+        notes.add("test note");
+        appArray.add(new Application(1, AppType.NEW, "summary", "note"));
+        try {
+            AppWriter.writeAppsToFile("test-files/act_app_closed.txt", appArray);
+        } catch (IllegalArgumentException e) {
+            fail("Cannot write to file.");
+        }
+        // Assert to check file write success
+        assertTrue(Files.exists(Paths.get("test-files/act_app_closed.txt")));
+    }
+
+    /**
+     * Compares the contents of two files line by line.
+     *
+     * @param expectedFile the expected file path
+     * @param actualFile the actual file path
+     * @throws IOException if an I/O error occurs reading from the stream
+     */
+    private void compareFiles(String expectedFile, String actualFile) throws IOException {
+        List<String> expectedLines = Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + expectedFile));
+        List<String> actualLines = Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + actualFile));
+        assertEquals(expectedLines, actualLines);
+    }
+
+    /**
+     * Tests writing an application with an "Interview" status to a file and compares it with an expected file.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testWriteAppInterview() throws IOException {
+        List<Application> apps1 = new ArrayList<>();
+        ArrayList<String> notes = new ArrayList<>();
+        notes.add("[Review] note 1");
+        notes.add("[Interview] note 2");
+
+        apps1.add(new Application(5, "Interview", "Old", "Application summary", "reviewer", false, "", notes));
+
+        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_interview.txt", apps1);
+
+        compareFiles("exp_app_interview.txt", "act_app_interview.txt");
+        assertTrue(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_interview.txt"))); // Explicit assert
+    }
+
+    /**
+     * Tests writing an application with an "Offer" status to a file and compares it with an expected file.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testWriteAppOffer() throws IOException {
+        List<Application> apps3 = new ArrayList<>();
+        ArrayList<String> notes = new ArrayList<>();
+        notes.add("[Review] note 1");
+        notes.add("[Interview] note 2");
+        notes.add("[RefCheck] note 3");
+        notes.add("[Offer] note 4");
+
+        apps3.add(new Application(1, "Offer", "Old", "Application summary", "reviewer2", true, "", notes));
+
+        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_offer.txt", apps3);
+
+        compareFiles("exp_app_offer.txt", "act_app_offer.txt");
+        assertTrue(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_offer.txt"))); // Explicit assert
+    }
+
+    /**
+     * Tests writing an application with a "RefCheck" status to a file and compares it with an expected file.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testWriteAppRefCheck() throws IOException {
+        List<Application> apps2 = new ArrayList<>();
+        ArrayList<String> notes = new ArrayList<>();
+        notes.add("[Review] note 1");
+        notes.add("[Interview] note 2");
+        notes.add("[RefCheck] note 3");
+
+        apps2.add(new Application(7, "RefCheck", "Old", "Application summary", "reviewer", true, "", notes));
+
+        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_refcheck.txt", apps2);
+
+        compareFiles("exp_app_refcheck.txt", "act_app_refcheck.txt");
+        assertTrue(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_refcheck.txt"))); // Explicit assert
+    }
+
+    /**
+     * Tests that providing a null filename throws an IllegalArgumentException.
+     */
+    @Test
+    public void testNullFileNameThrowsIllegalArgumentException() {
+        List<Application> apps4 = new ArrayList<>();
+
+		// Add a valid application to the list for the sake of the test
+		apps4.add(new Application(1, AppType.NEW, "summary", "note"));
+
+		assertThrows(IllegalArgumentException.class, () -> {
+		    AppWriter.writeAppsToFile(null, apps4);
+		});
+    }
+
+    /**
+     * Tests that providing an empty filename throws an IllegalArgumentException.
+     */
+    @Test
+    public void testEmptyFileNameThrowsIllegalArgumentException() {
+		List<Application> apps5 = new ArrayList<>();
+
+		// Add a valid application to the list for the sake of the test
+		apps5.add(new Application(1, AppType.NEW, "summary", "note"));
+
+		assertThrows(IllegalArgumentException.class, () -> {
+		    AppWriter.writeAppsToFile("", apps5);
+		});
+	}
+
+	/**
+	 * Tests that providing null applications throws an IllegalArgumentException.
+	 */
+	@Test
+	public void testNullAppsThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> {
+		    AppWriter.writeAppsToFile("test-files/act_null_apps.txt", null);
+		});
+	}
+
+	/**
+	 * Tests that providing a null note in Application constructor throws an IllegalArgumentException.
+	 */
+	@Test
+	public void testNullNoteInApplicationConstructorThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> {
+		    new Application(1, AppType.NEW, "summary", null);
+		});
+	}
+
+	/**
+	 * Tests that providing an empty summary in Application constructor throws an IllegalArgumentException.
+	 */
+	@Test
+	public void testEmptySummaryInApplicationConstructorThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> {
+		    new Application(1, AppType.NEW, "", "note");
+		});
+	}
+
+	/**
+     * Tests handling of IOExceptions when attempting to write to an invalid path.
+     */
+    @Test
+    public void testIOExceptionHandling() {
+		List<Application> apps6 = new ArrayList<>();
+		apps6.add(new Application(1, AppType.NEW, "summary", "note"));
+
+		assertThrows(IllegalArgumentException.class, () -> {
+		    AppWriter.writeAppsToFile("/invalid/path/act_io_exception.txt", apps6);
+		});
+	}
+
+    /**
+     * Tests that streaming applications to a file writes the same contents as writeAppsToFile.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testStreamAppsToFile() throws IOException {
+        List<Application> apps7 = AppReader.readAppsFromFile(EXPECTED_FILES_PATH + "app1.txt");
+        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_review.txt", apps7);
+        AppWriter.streamAppsToFile(EXPECTED_FILES_PATH + "act_app_waitlist.txt", apps7);
+        assertEquals(Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_review.txt")),
+                Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_waitlist.txt")));
+
+        assertThrows(IllegalArgumentException.class, () -> AppWriter.streamAppsToFile("", apps7));
+        assertThrows(IllegalArgumentException.class, () -> AppWriter.streamAppsToFile("/invalid/path/act_io_exception.txt", apps7));
+    }
+
+    /**
+     * Tests that streaming with a progress listener reports every application and that a
+     * cancelled save leaves the original file as it was.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testStreamAppsToFileWithProgress() throws IOException {
+        List<Application> apps8 = AppReader.readAppsFromFile(EXPECTED_FILES_PATH + "app1.txt");
+        List<Integer> reported = new ArrayList<>();
+        AppWriter.streamAppsToFile(EXPECTED_FILES_PATH + "act_app_offer.txt", apps8, (records, bytes) -> {
+            reported.add(records);
+            return true;
+        });
+        AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_review.txt", apps8);
+        List<String> expected = Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_review.txt"));
+        assertEquals(expected, Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_offer.txt")));
+        assertEquals(6, (int) reported.get(reported.size() - 1));
+
+        List<Application> many = new ArrayList<>();
+        for (int id = 1; id <= 3000; id++) {
+            many.add(new Application(id, AppType.NEW, "Summary " + id, "Note"));
+        }
+        assertThrows(CancellationException.class, () -> AppWriter.streamAppsToFile(
+                EXPECTED_FILES_PATH + "act_app_offer.txt", many, (records, bytes) -> records < 2000));
+        assertEquals(expected, Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_offer.txt")));
+        assertFalse(Files.exists(Paths.get(EXPECTED_FILES_PATH + "act_app_offer.txt.tmp")));
+    }
+
+    /**
+     * Tests that every readable text file in test-files converts to the binary format and
+     * back without losing anything, and that the binary file is smaller.
+     *
+     * @throws IOException if an I/O error occurs reading from or writing to a file
+     */
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        String binaryFile = EXPECTED_FILES_PATH + "act_app_binary.bin";
+        int converted = 0;
+        try {
+            for (int i = 1; i <= 18; i++) {
+                String textFile = EXPECTED_FILES_PATH + "app" + i + ".txt";
+                List<Application> fromText;
+                try {
+                    fromText = AppReader.readAppsFromFile(textFile);
+                } catch (IllegalArgumentException e) {
+                    continue; // Missing or invalid on purpose
+                }
+                AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_review.txt", fromText);
+                AppWriter.writeAppsToBinaryFile(binaryFile, fromText);
+                List<Application> fromBinary = AppReader.readAppsFromFile(binaryFile);
+                AppWriter.writeAppsToFile(EXPECTED_FILES_PATH + "act_app_waitlist.txt", fromBinary);
+                assertEquals(textFile, Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_review.txt")),
+                        Files.readAllLines(Paths.get(EXPECTED_FILES_PATH + "act_app_waitlist.txt")));
+                if (!fromText.isEmpty()) {
+                    assertTrue(textFile, Files.size(Paths.get(binaryFile)) < Files.size(Paths.get(textFile)));
+                }
+                converted++;
+            }
+            assertTrue(converted > 0);
+        } finally {
+            Files.deleteIfExists(Paths.get(binaryFile));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> AppWriter.writeAppsToBinaryFile("", new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class,
+                () -> AppWriter.writeAppsToBinaryFile("/invalid/path/act_io_exception.bin", new ArrayList<>()));
+    }
+
+    /**
+     * Tests that text files are written as UTF-8 by both writers and read back the same
+     * by every reader, whatever the default charset.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testWritesUtf8() throws IOException {
+        List<Application> written = List.of(new Application(1, AppType.NEW, "Caf\u00e9 r\u00e9sum\u00e9", "Na\u00efve note"));
+        Path file = Files.createTempFile("utf8", ".txt");
+        try {
+            for (int writer = 0; writer < 2; writer++) {
+                if (writer == 0) {
+                    AppWriter.writeAppsToFile(file.toString(), written);
+                } else {
+                    AppWriter.streamAppsToFile(file.toString(), written);
+                }
+                String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                assertTrue(text.contains("Caf\u00e9 r\u00e9sum\u00e9"));
+                List<List<Application>> readers = List.of(AppReader.readAppsFromFile(file.toString()),
+                        AppReader.readAppsFromMappedFile(file.toString()),
+                        AppReader.readAppsFromFileInParallel(file.toString()));
+                for (List<Application> read : readers) {
+                    assertEquals("Caf\u00e9 r\u00e9sum\u00e9", read.get(0).getSummary());
+                    assertEquals(written.get(0).getNotesString(), read.get(0).getNotesString());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that a change segment cut short by a crash is ignored when the segments are
+     * read, and cut off by the next append so it never becomes part of a later segment.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testAppendChangesAfterCrash() throws IOException {
+        Path segment = Files.createTempFile("apps", ".changes");
+        try {
+            List<Application> apps = AppReader.readAppsFromFile(EXPECTED_FILES_PATH + "app1.txt");
+            AppWriter.appendChangesToFile(segment.toString(), List.of(apps.get(0)), List.of(7));
+
+            // The crash leaves many whole records, longer than a read block, and half of another
+            AppFileGenerator generator = new AppFileGenerator(5);
+            generator.setRecords(100);
+            StringBuilder torn = new StringBuilder();
+            for (Application app : generator.applications()) {
+                app.appendTo(torn);
+                torn.append('\n');
+            }
+            String last = apps.get(1).toString();
+            torn.append(last, 0, last.length() / 2);
+            Files.write(segment, torn.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Map<Integer, Application> changes = AppReader.readChangesFromFile(segment.toString());
+            assertEquals(2, changes.size());
+            assertEquals(apps.get(0).toString(), changes.get(1).toString());
+            assertTrue(changes.containsKey(7));
+            assertNull(changes.get(7));
+
+            AppWriter.appendChangesToFile(segment.toString(), List.of(apps.get(3)), List.of());
+            changes = AppReader.readChangesFromFile(segment.toString());
+            assertEquals(3, changes.size());
+            assertEquals(apps.get(0).toString(), changes.get(1).toString());
+            assertEquals(apps.get(3).toString(), changes.get(apps.get(3).getAppId()).toString());
+            assertFalse(changes.containsKey(apps.get(1).getAppId()));
+        } finally {
+            Files.deleteIfExists(segment);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package edu.ncsu.csc216.app_manager.model.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/**
+ * This class tests the functionality of the CommandLog class
+ * 
+ */
+public class CommandLogTest {
+
+    /**
+     * Records every replayed entry as a String.
+     */
+    private static class Recorder implements CommandLog.Handler {
+
+        /** Replayed entries */
+        private final List<String> entries = new ArrayList<>();
+
+        @Override
+        public void add(int id, AppType appType, String summary, String note) {
+            entries.add("add " + id + " " + appType + " " + summary + " " + note);
+        }
+
+        @Override
+        public void command(int id, Command command) {
+            entries.add("command " + id + " " + command.getCommand() + " " + command.getReviewerId() + " "
+                    + command.getResolution() + " " + command.getNote());
+        }
+
+        @Override
+        public void delete(int id) {
+            entries.add("delete " + id);
+        }
+
+        @Override
+        public void load(Application app) {
+            entries.add("load " + app.toString().trim());
+        }
+    }
+
+    /**
+     * File channel that writes at most a set number of bytes and then fails, as a full
+     * disk would, leaving the last write partly done.
+     */
+    private static class FailingChannel extends FileChannel {
+
+        /** Channel the calls are passed to */
+        private final FileChannel channel;
+
+        /** Number of bytes that can still be written, or -1 for no limit */
+        private volatile long budget = -1;
+
+        /**
+         * Constructs a channel that passes its calls to the given channel.
+         *
+         * @param channel the channel the calls are passed to
+         */
+        FailingChannel(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            long left = budget;
+            if (left == 0) {
+                throw new IOException("No space left on device");
+            }
+            if (left < 0 || src.remaining() <= left) {
+                int written = channel.write(src);
+                budget = left < 0 ? -1 : left - written;
+                return written;
+            }
+            ByteBuffer part = src.duplicate();
+            part.limit(part.position() + (int) left);
+            int written = channel.write(part);
+            src.position(src.position() + written);
+            budget = left - written;
+            return written;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return channel.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return channel.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            throw new IOException("Not supported");
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            channel.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return channel.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            throw new IOException("Not supported");
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return channel.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            throw new IOException("Not supported");
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return channel.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Tests that logged entries are replayed in order.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testReplay() throws IOException {
+        File file = File.createTempFile("commands", ".log");
+        file.deleteOnExit();
+        CommandLog log = new CommandLog(file.getPath(), 2, 1000);
+        log.logAdd(1, AppType.NEW, "Summary", "Note \u00e9");
+        log.logCommand(1, new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        log.logCommand(1, new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected"));
+        log.logDelete(1);
+        Application loaded = AppReader.readAppsFromFile("test-files/app1.txt").get(3);
+        log.logLoad(loaded);
+        log.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(file.length(), CommandLog.replay(file.getPath(), recorder));
+        assertEquals(5, recorder.entries.size());
+        assertEquals("load " + loaded.toString().trim(), recorder.entries.get(4));
+        assertEquals("add 1 NEW Summary Note \u00e9", recorder.entries.get(0));
+        assertEquals("command 1 ACCEPT reviewer null Accepted", recorder.entries.get(1));
+        assertEquals("command 1 REJECT null REVCOMPLETED Rejected", recorder.entries.get(2));
+        assertEquals("delete 1", recorder.entries.get(3));
+    }
+
+    /**
+     * Tests that a partly written entry ends the replay and can be truncated away.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testReplayTornEntry() throws IOException {
+        File file = File.createTempFile("commands", ".log");
+        file.deleteOnExit();
+        CommandLog log = new CommandLog(file.getPath());
+        log.logDelete(3);
+        log.logDelete(5);
+        log.close();
+        long complete = file.length();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(complete - 2);
+        }
+
+        Recorder recorder = new Recorder();
+        long valid = CommandLog.replay(file.getPath(), recorder);
+        assertEquals(complete / 2, valid);
+        assertEquals(1, recorder.entries.size());
+
+        log = new CommandLog(file.getPath());
+        log.truncate(valid);
+        log.logDelete(7);
+        log.close();
+        recorder = new Recorder();
+        CommandLog.replay(file.getPath(), recorder);
+        assertEquals("delete 3", recorder.entries.get(0));
+        assertEquals("delete 7", recorder.entries.get(1));
+
+        // A torn length far past the end of the log ends the replay without allocating it
+        complete = file.length();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file, true))) {
+            out.writeInt(0x7FFFFFF0);
+            out.writeInt(0);
+            out.writeInt(12345);
+        }
+        recorder = new Recorder();
+        assertEquals(complete, CommandLog.replay(file.getPath(), recorder));
+        assertEquals(2, recorder.entries.size());
+    }
+
+    /**
+     * Tests that an entry whose checksum holds but whose string length runs past the entry
+     * is rejected without allocating the string.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testReplayInvalidString() throws IOException {
+        File file = File.createTempFile("commands", ".log");
+        file.deleteOnExit();
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        DataOutputStream entry = new DataOutputStream(contents);
+        entry.writeByte(1);
+        entry.writeInt(1);
+        entry.writeByte(AppType.NEW.ordinal());
+        entry.writeInt(0x7FFFFFF0);
+        CRC32 checksum = new CRC32();
+        checksum.update(contents.toByteArray());
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(contents.size());
+            out.writeInt((int) checksum.getValue());
+            contents.writeTo(out);
+        }
+        assertThrows(IllegalArgumentException.class, () -> CommandLog.replay(file.getPath(), new Recorder()));
+    }
+
+    /**
+     * Tests that a write that fails partway leaves no entry written twice once a later
+     * sync succeeds, and that a failed background flush is recorded without stopping
+     * the flushes that follow.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testFailedWrite() throws IOException {
+        File file = File.createTempFile("commands", ".log");
+        file.deleteOnExit();
+        FailingChannel channel = new FailingChannel(FileChannel.open(file.toPath(), StandardOpenOption.WRITE));
+        CommandLog log = new CommandLog(channel, 100, 1000);
+        log.logDelete(1);
+        log.sync();
+        long first = file.length();
+
+        // The second entry is cut off partway through
+        log.logDelete(2);
+        log.logDelete(3);
+        channel.budget = first + 3;
+        assertThrows(IllegalArgumentException.class, log::sync);
+        channel.budget = -1;
+        log.sync();
+        log.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(file.length(), CommandLog.replay(file.getPath(), recorder));
+        assertEquals(List.of("delete 1", "delete 2", "delete 3"), recorder.entries);
+
+        channel = new FailingChannel(FileChannel.open(file.toPath(), StandardOpenOption.WRITE));
+        channel.position(channel.size());
+        log = new CommandLog(channel, 100, 5);
+        try {
+            channel.budget = 3;
+            log.logDelete(4);
+            CommandLog failing = log;
+            await(() -> failing.getFailure() != null);
+            channel.budget = -1;
+            await(() -> failing.getFailure() == null);
+        } finally {
+            log.close();
+        }
+        recorder = new Recorder();
+        assertEquals(file.length(), CommandLog.replay(file.getPath(), recorder));
+        assertEquals(List.of("delete 1", "delete 2", "delete 3", "delete 4"), recorder.entries);
+        assertNull(log.getFailure());
+    }
+
+    /**
+     * Waits up to ten seconds for the given condition to hold.
+     *
+     * @param condition the condition to wait for
+     */
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                fail("Interrupted");
+            }
+        }
+    }
+
+    /**
+     * Tests that a missing log replays nothing and invalid logs cannot be opened.
+     */
+    @Test
+    public void testMissingAndInvalidLog() {
+        Recorder recorder = new Recorder();
+        assertEquals(0, CommandLog.replay("test-files/no_such.log", recorder));
+        assertEquals(0, recorder.entries.size());
+        assertThrows(IllegalArgumentException.class, () -> new CommandLog(""));
+        assertThrows(IllegalArgumentException.class, () -> new CommandLog("test-files/commands.log", 0, 10));
+    }
+}
@@ -0,0 +1,61 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+
+/** Tests the functionality of the AppAttributeIndex class.
+ *
+ *  @author Praneel Magapu
+ *
+ */
+public class AppAttributeIndexTest {
+
+    /** Reference to the AppAttributeIndex object */
+    private AppAttributeIndex attributes;
+
+    /** Sets up a new AppAttributeIndex instance before each test. */
+    @BeforeEach
+    void setUp() {
+        attributes = new AppAttributeIndex();
+    }
+
+    /** Tests that applications are indexed by state, type and reviewer as they change. */
+    @Test
+    void testAddUpdateRemove() {
+        Application app1 = new Application(1, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(2, AppType.OLD, "Summary 2", "Note 2");
+        attributes.add(app1);
+        attributes.add(app2);
+        assertEquals("{1, 2}", attributes.getByState(AppState.REVIEW).toString());
+        assertEquals("{1}", attributes.getByType(AppType.NEW).toString());
+        assertEquals("{2}", attributes.getByType(AppType.OLD).toString());
+        assertTrue(attributes.getByReviewer("reviewer").isEmpty());
+        assertEquals(2, attributes.countByState(AppState.REVIEW));
+        assertEquals(1, attributes.countByType(AppType.NEW));
+
+        app2.update(new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        attributes.update(app2, AppState.REVIEW, null);
+        assertEquals("{1}", attributes.getByState(AppState.REVIEW).toString());
+        assertEquals("{2}", attributes.getByState(AppState.INTERVIEW).toString());
+        assertEquals("{2}", attributes.getByReviewer("reviewer").toString());
+        assertEquals(1, attributes.countByState(AppState.REVIEW));
+        assertEquals(1, attributes.countByState(AppState.INTERVIEW));
+
+        attributes.remove(app2);
+        assertTrue(attributes.getByState(AppState.INTERVIEW).isEmpty());
+        assertTrue(attributes.getByType(AppType.OLD).isEmpty());
+        assertTrue(attributes.getByReviewer("reviewer").isEmpty());
+        assertEquals(0, attributes.countByState(AppState.INTERVIEW));
+        assertEquals(0, attributes.countByType(AppType.OLD));
+        assertEquals(1, attributes.countByType(AppType.NEW));
+    }
+}
@@ -0,0 +1,76 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/** Tests the functionality of the AppIndex class.
+ *
+ *  @author Praneel Magapu
+ *
+ */
+public class AppIndexTest {
+
+    /** Reference to the AppIndex object */
+    private AppIndex index;
+
+    /** Sets up a new AppIndex instance before each test. */
+    @BeforeEach
+    void setUp() {
+        index = new AppIndex();
+    }
+
+    /** Tests putting and getting applications by id. */
+    @Test
+    void testPutAndGet() {
+        Application app1 = new Application(1, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(2, AppType.OLD, "Summary 2", "Note 2");
+        assertNull(index.put(app1));
+        assertNull(index.put(app2));
+        assertEquals(2, index.size());
+        assertEquals(app1, index.get(1));
+        assertEquals(app2, index.get(2));
+        assertNull(index.get(3));
+        assertNull(index.get(0));
+    }
+
+    /** Tests that putting an application with an indexed id replaces the old one. */
+    @Test
+    void testPutReplaces() {
+        Application app1 = new Application(4, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(4, AppType.OLD, "Summary 2", "Note 2");
+        index.put(app1);
+        assertEquals(app1, index.put(app2));
+        assertEquals(1, index.size());
+        assertEquals(app2, index.get(4));
+    }
+
+    /** Tests that lookups still succeed after the table grows and entries are removed. */
+    @Test
+    void testGrowAndRemove() {
+        for (int id = 1; id <= 1000; id++) {
+            index.put(new Application(id, AppType.NEW, "Summary", "Note"));
+        }
+        assertEquals(1000, index.size());
+        for (int id = 1; id <= 1000; id += 2) {
+            assertEquals(id, index.remove(id).getAppId());
+        }
+        assertNull(index.remove(1));
+        assertEquals(500, index.size());
+        for (int id = 1; id <= 1000; id++) {
+            if (id % 2 == 1) {
+                assertNull(index.get(id));
+            } else {
+                assertEquals(id, index.get(id).getAppId());
+            }
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.get(2));
+    }
+}
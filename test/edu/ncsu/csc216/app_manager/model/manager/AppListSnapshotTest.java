@@ -0,0 +1,92 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/** Tests the functionality of the AppListSnapshot class.
+ *
+ *  @author Praneel Magapu
+ *
+ */
+public class AppListSnapshotTest {
+
+    /**
+     * Tests random insertions and removals against a sorted ArrayList, and that older
+     * snapshots are not affected by later changes.
+     */
+    @Test
+    void testInsertAndRemove() {
+        Random random = new Random(42);
+        List<Application> expected = new ArrayList<>();
+        AppListSnapshot snapshot = AppListSnapshot.empty();
+        AppListSnapshot first = null;
+        for (int step = 0; step < 5000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int id = 1 + random.nextInt(4000);
+                if (snapshot.indexOf(id) >= 0) {
+                    continue;
+                }
+                Application app = new Application(id, AppType.NEW, "Summary", "Note");
+                int position = -snapshot.indexOf(id) - 1;
+                expected.add(position, app);
+                snapshot = snapshot.insert(app);
+            } else {
+                int position = random.nextInt(expected.size());
+                expected.remove(position);
+                snapshot = snapshot.remove(position);
+            }
+            if (step == 100) {
+                first = snapshot;
+            }
+        }
+        assertEquals(expected, snapshot.asList());
+        assertTrue(snapshot.size() > AppListSnapshot.CHUNK_SIZE * 4);
+        for (int i = 0; i < expected.size(); i++) {
+            Application app = expected.get(i);
+            assertEquals(i, snapshot.indexOf(app.getAppId()));
+            assertEquals(app, snapshot.getById(app.getAppId()));
+        }
+        assertNull(snapshot.getById(0));
+        assertEquals(-1, snapshot.indexOf(0));
+        assertEquals(-snapshot.size() - 1, snapshot.indexOf(5000));
+
+        // A snapshot taken earlier still holds what the list held then
+        int count = 0;
+        for (Iterator<Application> it = first.iterator(); it.hasNext(); it.next()) {
+            count++;
+        }
+        assertEquals(first.size(), count);
+        assertTrue(first.size() < snapshot.size());
+    }
+
+    /** Tests that appending fills chunks and that every snapshot has a new, larger version. */
+    @Test
+    void testAppendAndVersions() {
+        AppListSnapshot snapshot = AppListSnapshot.empty();
+        long version = snapshot.getVersion();
+        for (int id = 1; id <= 1000; id++) {
+            snapshot = snapshot.insert(new Application(id, AppType.OLD, "Summary", "Note"));
+            assertTrue(snapshot.getVersion() > version);
+            version = snapshot.getVersion();
+        }
+        assertEquals(1000, snapshot.size());
+        assertEquals(1000, snapshot.get(999).getAppId());
+        AppListSnapshot touched = snapshot.withNewVersion();
+        assertTrue(touched.getVersion() > snapshot.getVersion());
+        assertEquals(snapshot.asList(), touched.asList());
+
+        List<Application> apps = new ArrayList<>(snapshot.asList());
+        assertEquals(apps, AppListSnapshot.of(apps).asList());
+    }
+}
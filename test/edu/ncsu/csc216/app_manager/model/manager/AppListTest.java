@@ -1,107 +1,348 @@
-package edu.ncsu.csc216.app_manager.model.manager;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertThrows;
-
-import java.util.List;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-
-import edu.ncsu.csc216.app_manager.model.application.Application;
-import edu.ncsu.csc216.app_manager.model.command.Command;
-import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
-import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
-import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
-
-/** Tests the functionality of the AppList class.
- * 
- *  @author Praneel Magapu
- *  
- */
-public class AppListTest {
-
-    /** Reference to the AppList object */
-    private AppList appList;
-
-    /** Sets up a new AppList instance before each test. */
-    @BeforeEach
-    void setUp() {
-        appList = new AppList();
-    }
-
-    /** Tests the addition of applications and verifies the counter. */
-    @Test
-    void testAddAppAndCounter() {
-        assertEquals(1, appList.addApp(AppType.NEW, "Summary 1", "Note 1"));
-        assertEquals(3, appList.addApp(AppType.OLD, "Summary 2", "Note 2"));
-        assertEquals(5, appList.addApp(AppType.NEW, "Summary 3", "Note 3"));
-    }
-
-    /** Tests the retrieval of applications by ID when the ID is invalid. */
-    @Test
-    void testGetAppByIdInvalid() {
-        assertNull(appList.getAppById(999));
-        assertNull(appList.getAppById(1));
-    }
-
-    /** Tests the deletion of applications by ID when the ID is invalid. */
-    @Test
-    void testDeleteAppByIdInvalid() {
-        appList.deleteAppById(999);
-        assertEquals(0, appList.getApps().size());
-    }
-
-    /** Tests the addition of applications with null or empty summaries. */
-    @Test
-    void testAddAppNullSummary() {
-        assertThrows(IllegalArgumentException.class, () -> appList.addApp(AppType.NEW, null, "Note 1"));
-        assertThrows(IllegalArgumentException.class, () -> appList.addApp(AppType.NEW, "", "Note 1"));
-    }
-
-    /** Tests the addition of duplicate applications. */
-    @Test
-    void testAddDuplicateApps() {
-        Application app1 = new Application(2, AppType.NEW, "Summary 1", "Note 1");
-        Application app2 = new Application(2, AppType.NEW, "Summary 2", "Note 2");
-        appList.addApps(List.of(app1, app2));
-        assertEquals(1, appList.getApps().size());
-    }
-
-    /** Tests that applications are sorted by ID when added to the AppList. */
-    @Test
-    void testSortingOnAdd() {
-        Application app1 = new Application(4, AppType.NEW, "Summary 3", "Note 3");
-        Application app2 = new Application(2, AppType.OLD, "Summary 1", "Note 1");
-        Application app3 = new Application(3, AppType.NEW, "Summary 2", "Note 2");
-        appList.addApps(List.of(app1, app2, app3));
-        List<Application> apps = appList.getApps();
-        assertEquals(2, apps.get(0).getAppId());
-        assertEquals(3, apps.get(1).getAppId());
-        assertEquals(4, apps.get(2).getAppId());
-    }
-
-    /** Tests retrieval of applications by type in a case-insensitive manner. */
-    @Test
-    void testGetAppsByTypeCaseInsensitive() {
-        appList.addApp(AppType.NEW, "New App", "Note 1");
-        appList.addApp(AppType.OLD, "Old App", "Note 2");
-        List<Application> newApps = appList.getAppsByType("NEW");
-        List<Application> oldApps = appList.getAppsByType("old");
-        assertEquals(1, newApps.size());
-        assertEquals(1, oldApps.size());
-    }
-
-    /** Tests the execution of multiple commands on an application. */
-    @Test
-    void testMultipleCommandsExecution() {
-        int id = appList.addApp(AppType.NEW, "Summary", "Initial Note");
-        Application app = appList.getAppById(id);
-        Command command1 = new Command(CommandValue.ACCEPT, "Reviewer1", Resolution.REVCOMPLETED, "Review Complete");
-        Command command2 = new Command(CommandValue.STANDBY, "Reviewer1", Resolution.INTCOMPLETED, "Interview Complete");
-        appList.executeCommand(id, command1);
-        appList.executeCommand(id, command2);
-        assertEquals("Waitlist", app.getStateName());
-        assertEquals("Reviewer1", app.getReviewer());
-    }
-}
\ No newline at end of file
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.app_manager.model.manager.AppList.CommandResult;
+
+/** Tests the functionality of the AppList class.
+ * 
+ *  @author Praneel Magapu
+ *  
+ */
+public class AppListTest {
+
+    /** Reference to the AppList object */
+    private AppList appList;
+
+    /** Sets up a new AppList instance before each test. */
+    @BeforeEach
+    void setUp() {
+        appList = new AppList();
+    }
+
+    /** Tests the addition of applications and verifies the counter. */
+    @Test
+    void testAddAppAndCounter() {
+        assertEquals(1, appList.addApp(AppType.NEW, "Summary 1", "Note 1"));
+        assertEquals(3, appList.addApp(AppType.OLD, "Summary 2", "Note 2"));
+        assertEquals(5, appList.addApp(AppType.NEW, "Summary 3", "Note 3"));
+    }
+
+    /** Tests the retrieval of applications by ID when the ID is invalid. */
+    @Test
+    void testGetAppByIdInvalid() {
+        assertNull(appList.getAppById(999));
+        assertNull(appList.getAppById(1));
+    }
+
+    /** Tests the deletion of applications by ID when the ID is invalid. */
+    @Test
+    void testDeleteAppByIdInvalid() {
+        appList.deleteAppById(999);
+        assertEquals(0, appList.getApps().size());
+    }
+
+    /** Tests the addition of applications with null or empty summaries. */
+    @Test
+    void testAddAppNullSummary() {
+        assertThrows(IllegalArgumentException.class, () -> appList.addApp(AppType.NEW, null, "Note 1"));
+        assertThrows(IllegalArgumentException.class, () -> appList.addApp(AppType.NEW, "", "Note 1"));
+    }
+
+    /** Tests the addition of duplicate applications. */
+    @Test
+    void testAddDuplicateApps() {
+        Application app1 = new Application(2, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(2, AppType.NEW, "Summary 2", "Note 2");
+        appList.addApps(List.of(app1, app2));
+        assertEquals(1, appList.getApps().size());
+    }
+
+    /** Tests that applications are sorted by ID when added to the AppList. */
+    @Test
+    void testSortingOnAdd() {
+        Application app1 = new Application(4, AppType.NEW, "Summary 3", "Note 3");
+        Application app2 = new Application(2, AppType.OLD, "Summary 1", "Note 1");
+        Application app3 = new Application(3, AppType.NEW, "Summary 2", "Note 2");
+        appList.addApps(List.of(app1, app2, app3));
+        List<Application> apps = appList.getApps();
+        assertEquals(2, apps.get(0).getAppId());
+        assertEquals(3, apps.get(1).getAppId());
+        assertEquals(4, apps.get(2).getAppId());
+    }
+
+    /** Tests retrieval of applications by type in a case-insensitive manner. */
+    @Test
+    void testGetAppsByTypeCaseInsensitive() {
+        appList.addApp(AppType.NEW, "New App", "Note 1");
+        appList.addApp(AppType.OLD, "Old App", "Note 2");
+        List<Application> newApps = appList.getAppsByType("NEW");
+        List<Application> oldApps = appList.getAppsByType("old");
+        assertEquals(1, newApps.size());
+        assertEquals(1, oldApps.size());
+    }
+
+    /** Tests the execution of multiple commands on an application. */
+    @Test
+    void testMultipleCommandsExecution() {
+        int id = appList.addApp(AppType.NEW, "Summary", "Initial Note");
+        Application app = appList.getAppById(id);
+        Command command1 = new Command(CommandValue.ACCEPT, "Reviewer1", Resolution.REVCOMPLETED, "Review Complete");
+        Command command2 = new Command(CommandValue.STANDBY, "Reviewer1", Resolution.INTCOMPLETED, "Interview Complete");
+        appList.executeCommand(id, command1);
+        appList.executeCommand(id, command2);
+        assertEquals("Waitlist", app.getStateName());
+        assertEquals("Reviewer1", app.getReviewer());
+    }
+
+    /** Tests that lookups stay consistent with the sorted list after deletions. */
+    @Test
+    void testDeleteKeepsLookupConsistent() {
+        Application app1 = new Application(6, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(2, AppType.OLD, "Summary 2", "Note 2");
+        Application app3 = new Application(9, AppType.NEW, "Summary 3", "Note 3");
+        appList.addApps(List.of(app1, app2, app3));
+        appList.deleteAppById(6);
+        assertNull(appList.getAppById(6));
+        assertEquals(app3, appList.getAppById(9));
+        List<Application> apps = appList.getApps();
+        assertEquals(2, apps.size());
+        assertEquals(2, apps.get(0).getAppId());
+        assertEquals(9, apps.get(1).getAppId());
+        assertEquals(11, appList.addApp(AppType.NEW, "Summary 4", "Note 4"));
+        assertEquals(11, appList.getApps().get(2).getAppId());
+    }
+
+    /** Tests that a loaded batch is merged into an existing list without replacing existing applications. */
+    @Test
+    void testAddAppsMergesWithExisting() {
+        Application app1 = new Application(3, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(8, AppType.OLD, "Summary 2", "Note 2");
+        appList.addApps(List.of(app2, app1));
+        Application duplicate = new Application(8, AppType.NEW, "Duplicate", "Note");
+        Application app3 = new Application(5, AppType.NEW, "Summary 3", "Note 3");
+        Application app4 = new Application(1, AppType.OLD, "Summary 4", "Note 4");
+        appList.addApps(List.of(duplicate, app3, app4));
+        List<Application> apps = appList.getApps();
+        assertEquals(4, apps.size());
+        assertEquals(1, apps.get(0).getAppId());
+        assertEquals(3, apps.get(1).getAppId());
+        assertEquals(5, apps.get(2).getAppId());
+        assertEquals(app2, apps.get(3));
+        assertEquals(10, appList.addApp(AppType.NEW, "Summary 5", "Note 5"));
+    }
+
+    /** Tests that iterating the list visits the applications in id order without copying them. */
+    @Test
+    void testIterator() {
+        Application app1 = new Application(4, AppType.NEW, "Summary 1", "Note 1");
+        Application app2 = new Application(2, AppType.OLD, "Summary 2", "Note 2");
+        appList.addApps(List.of(app1, app2));
+        Iterator<Application> apps = appList.iterator();
+        assertEquals(app2, apps.next());
+        assertEquals(app1, apps.next());
+        assertFalse(apps.hasNext());
+        assertThrows(UnsupportedOperationException.class, () -> appList.iterator().remove());
+    }
+
+    /** Tests that a batch of commands reports a result for every id instead of throwing. */
+    @Test
+    void testExecuteCommands() {
+        appList.addApp(AppType.NEW, "Summary 1", "Note 1");
+        appList.addApp(AppType.NEW, "Summary 2", "Note 2");
+        appList.addApp(AppType.NEW, "Summary 3", "Note 3");
+        Command accept = new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted");
+        Command reopen = new Command(CommandValue.REOPEN, null, null, "Reopened");
+
+        Map<Integer, Command> commands = new TreeMap<>();
+        commands.put(5, accept);
+        commands.put(2, accept);
+        commands.put(3, reopen);
+        commands.put(1, accept);
+        Map<Integer, CommandResult> results = appList.executeCommands(commands);
+        assertEquals("{1=APPLIED, 2=MISSING, 3=INVALID_TRANSITION, 5=APPLIED}", results.toString());
+        assertEquals("Interview", appList.getAppById(1).getStateName());
+        assertEquals("Review", appList.getAppById(3).getStateName());
+        assertEquals("Interview", appList.getAppById(5).getStateName());
+        assertThrows(IllegalArgumentException.class, () -> appList.executeCommands(null));
+
+        // Immutable batches, and batches with a null id or command, are checked without an NPE
+        assertEquals("{1=INVALID_TRANSITION}", appList.executeCommands(Map.of(1, reopen)).toString());
+        Map<Integer, Command> nullId = new HashMap<>();
+        nullId.put(null, accept);
+        assertThrows(IllegalArgumentException.class, () -> appList.executeCommands(nullId));
+        Map<Integer, Command> nullCommand = new HashMap<>();
+        nullCommand.put(2, null);
+        assertThrows(IllegalArgumentException.class, () -> appList.executeCommands(nullCommand));
+    }
+
+    /** Tests executing a command on a range of ids and on a filtered set of applications. */
+    @Test
+    void testExecuteCommandOnRangeAndFilter() {
+        appList.addApp(AppType.NEW, "Summary 1", "Note 1");
+        appList.addApp(AppType.OLD, "Summary 2", "Note 2");
+        appList.addApp(AppType.NEW, "Summary 3", "Note 3");
+        Command reject = new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected");
+
+        assertEquals("{3=APPLIED, 5=APPLIED}", appList.executeCommand(2, 5, reject).toString());
+        assertEquals("{3=INVALID_TRANSITION}", appList.executeCommand(3, 4, reject).toString());
+        assertEquals(0, appList.executeCommand(6, 100, reject).size());
+
+        Map<Integer, CommandResult> results = appList.executeCommand(app -> "New".equals(app.getAppType()), reject);
+        assertEquals("{1=APPLIED, 5=INVALID_TRANSITION}", results.toString());
+        assertEquals("Closed", appList.getAppById(1).getStateName());
+        assertThrows(IllegalArgumentException.class, () -> appList.executeCommand(null, reject));
+    }
+
+    /** Tests that the snapshot version changes with every change to the list, and only then. */
+    @Test
+    void testSnapshotVersion() {
+        appList.addApp(AppType.NEW, "Summary 1", "Note 1");
+        AppListSnapshot snapshot = appList.getSnapshot();
+        assertEquals(snapshot, appList.getSnapshot());
+
+        appList.executeCommand(1, new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted"));
+        AppListSnapshot updated = appList.getSnapshot();
+        assertTrue(updated.getVersion() > snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class,
+                () -> appList.executeCommand(1, new Command(CommandValue.REOPEN, null, null, "Reopened")));
+        assertEquals(updated, appList.getSnapshot());
+
+        appList.addApp(AppType.NEW, "Summary 2", "Note 2");
+        assertEquals(1, snapshot.size());
+        assertEquals(2, appList.getSnapshot().size());
+        appList.deleteAppById(1);
+        assertEquals(1, appList.getSnapshot().size());
+        assertEquals(1, updated.size());
+    }
+
+    /** Tests that queries by state, type and reviewer follow every change to the list. */
+    @Test
+    void testSecondaryIndexes() {
+        appList.addApp(AppType.NEW, "Summary 1", "Note 1");
+        appList.addApp(AppType.OLD, "Summary 2", "Note 2");
+        appList.addApps(List.of(new Application(4, AppType.NEW, "Summary 3", "Note 3")));
+        assertEquals(3, appList.getAppsByState(AppState.REVIEW).size());
+        assertEquals(2, appList.getAppsByType("NEW").size());
+        assertEquals(0, appList.getAppsByType("Unknown").size());
+
+        appList.executeCommand(1, new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted"));
+        appList.executeCommand(3, new Command(CommandValue.STANDBY, null, Resolution.REVCOMPLETED, "Waiting"));
+        assertEquals(1, appList.getAppsByState(AppState.REVIEW).size());
+        assertEquals(4, appList.getAppsByState(AppState.REVIEW).get(0).getAppId());
+        assertEquals(1, appList.getAppsByState(AppState.INTERVIEW).get(0).getAppId());
+        assertEquals(3, appList.getAppsByState(AppState.WAITLIST).get(0).getAppId());
+        assertEquals(1, appList.getAppsByReviewer("Reviewer").size());
+
+        appList.executeCommand(p -> p.getAppId() > 1, new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected"));
+        assertEquals(2, appList.getAppsByState(AppState.CLOSED).size());
+        appList.deleteAppById(1);
+        assertEquals(0, appList.getAppsByState(AppState.INTERVIEW).size());
+        assertEquals(0, appList.getAppsByReviewer("Reviewer").size());
+        assertEquals(0, appList.getAppsByState(null).size());
+    }
+
+    /**
+     * Tests that additions and deletions made by several threads on a plain list are all
+     * kept in the snapshot and the id index.
+     *
+     * @throws Exception if a thread fails
+     */
+    @Test
+    void testChangesFromSeveralThreads() throws Exception {
+        for (int i = 0; i < 4000; i++) {
+            appList.addApps(List.of(new Application(i + 1, AppType.NEW, "Summary", "Note")));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                tasks.add(pool.submit(() -> {
+                    // Each thread deletes its own quarter of the even ids
+                    for (int id = 2 + 2 * thread; id <= 4000; id += 8) {
+                        appList.deleteAppById(id);
+                    }
+                }));
+                tasks.add(pool.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        appList.addApp(AppType.OLD, "Added", "Note");
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(3000, appList.size());
+        for (Application app : appList.getSnapshot()) {
+            assertEquals(app, appList.getAppById(app.getAppId()));
+        }
+        assertNull(appList.getAppById(2));
+    }
+
+    /**
+     * Tests that the secondary indexes keep every command applied by several threads on
+     * a plain list while other threads query them.
+     *
+     * @throws Exception if a thread fails
+     */
+    @Test
+    void testIndexesFromSeveralThreads() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            appList.addApps(List.of(new Application(i + 1, AppType.NEW, "Summary", "Note")));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                tasks.add(pool.submit(() -> {
+                    for (int id = 1 + thread; id <= 2000; id += 4) {
+                        appList.executeCommand(id, new Command(CommandValue.ACCEPT, "Reviewer" + thread, null, "Accepted"));
+                    }
+                }));
+                tasks.add(pool.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        assertTrue(appList.getAppsByState(AppState.INTERVIEW).size() <= 2000);
+                        appList.getAppsByReviewer("Reviewer" + thread);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(2000, appList.getAppsByState(AppState.INTERVIEW).size());
+        assertEquals(0, appList.getAppsByState(AppState.REVIEW).size());
+        assertEquals(2000, appList.countByState(AppState.INTERVIEW));
+        assertEquals(500, appList.getAppsByReviewer("Reviewer3").size());
+    }
+}
@@ -1,177 +1,636 @@
-package edu.ncsu.csc216.app_manager.model.manager;
-
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertThrows;
-import static org.junit.Assert.fail;
-
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
-
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import edu.ncsu.csc216.app_manager.model.application.Application;
-import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
-import edu.ncsu.csc216.app_manager.model.command.Command;
-import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
-import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
-
-/** Tests the functionality of the AppManager class. */
-public class AppManagerTest {
-	
-	/** Directory for expected test file */
-	private static final String VALID_TEST_FILE = "test-files/exp_app_interview.txt";
-	
-	/** Directory for actual test file */
-    private static final String ACTUAL_TEST_FILE = "test-files/act_app_interview.txt";
-
-    /** Reference to the AppManager instance */
-    private AppManager manager;
-
-    /** Sets up the AppManager instance before each test. */
-    @BeforeEach
-    void setUp() {
-        manager = AppManager.getInstance();
-        manager.createNewAppList();
-    }
-
-    /** Tests the singleton pattern of AppManager. */
-    @Test
-    void testGetInstance() {
-        assertNotNull(manager);
-        assertEquals(manager, AppManager.getInstance());
-    }
-
-    /** Tests adding an application to the list. */
-    @Test
-    void testAddAppToList() {
-        manager.addAppToList(AppType.NEW, "Test App", "Test Note");
-        assertNotNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic
-    }
-
-    /** Tests retrieving an application by ID. */
-    @Test
-    void testGetAppById() {
-        manager.addAppToList(AppType.NEW, "Test App", "Test Note");
-        Application app = manager.getAppById(1); // Adjusted ID expectation based on counter logic
-        assertNotNull(app);
-        assertEquals("Test App", app.getSummary());
-    }
-
-   /** Tests executing a command on an application. */
-   @Test
-   void testExecuteCommand() {
-       manager.addAppToList(AppType.NEW, "Test App", "Test Note");
-       Command command = new Command(CommandValue.ACCEPT, "Reviewer1", Resolution.REVCOMPLETED, "Accepted");
-       manager.executeCommand(1, command); // Adjusted ID expectation based on counter logic
-       assertEquals("Interview", manager.getAppById(1).getStateName());
-   }
-
-   /** Tests retrieving the entire application list as an array. */
-   @Test
-   void testGetAppListAsArray() {
-       manager.addAppToList(AppType.NEW, "App 1", "Note");
-       manager.addAppToList(AppType.OLD, "App 2", "Note");
-       Object[][] allApps = manager.getAppListAsArray();
-       assertEquals(2, allApps.length);
-   }
-
-   /** Tests deleting an application by ID. */
-   @Test
-   void testDeleteAppById() {
-       manager.addAppToList(AppType.NEW, "Test App", "Note");
-       assertNotNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic
-       manager.deleteAppById(1); // Adjusted ID expectation based on counter logic
-       assertNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic
-   }
-
-
-   /** Tests creating a new application list. */
-   @Test
-   void testCreateNewAppList() {
-       manager.addAppToList(AppType.NEW, "Test App", "Note");
-       manager.createNewAppList();
-       assertNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic after reset
-   }
-   
-   /** Tests adding an application with null type. */
-   @Test
-   void testAddAppWithNullType() {
-       assertThrows(IllegalArgumentException.class, () -> {
-           manager.addAppToList(null, "Test App", "Test Note");
-       });
-   }
-
-   /** Tests retrieving applications by a non-existent ID. */
-   @Test
-   void testGetAppByNonExistentId() {
-       manager.createNewAppList(); // Reset list
-       assertNull(manager.getAppById(999)); // Assuming 999 is a non-existent ID
-   }
-
-
-   /** Tests loading applications from an invalid file. */
-   @Test
-   void testLoadAppsFromInvalidFile() {
-       assertThrows(RuntimeException.class, () -> {
-           manager.loadAppsFromFile("invalid_file.txt");
-       });
-   }
-
-
-   /** Tests retrieving app list as array by invalid app type. */
-   @Test
-   void testGetAppListAsArrayByInvalidType() {
-       assertThrows(IllegalArgumentException.class, () -> {
-           manager.getAppListAsArrayByAppType(null);
-       });
-   }
-   
-   /** Tests loading applications from a valid file. */
-   @Test
-   public void testLoadAppsFromFile() {
-       // Load applications from the expected file
-       manager.loadAppsFromFile(VALID_TEST_FILE);
-
-       // Retrieve the list of apps and verify their details
-       Object[][] appsArray = manager.getAppListAsArray();
-       
-       assertEquals(1, appsArray.length);
-
-       // Validate the first application
-       assertEquals(5, appsArray[0][0]); // App ID
-       assertEquals("Interview", appsArray[0][1]); // State Name
-       assertEquals("Old", appsArray[0][2]); // App Type
-       assertEquals("Application summary", appsArray[0][3]); // Summary
-       
-   }
-
-   /** Tests saving applications from a valid file. */
-   @Test
-   public void testSaveAppsToFile() {
-       // Load apps from file
-       manager.loadAppsFromFile(VALID_TEST_FILE);
-
-       // Save the apps to a new file
-       manager.saveAppsToFile(ACTUAL_TEST_FILE);
-
-       // Compare the content of the saved file with the expected file
-       try {
-           List<String> expectedLines = Files.readAllLines(new File(VALID_TEST_FILE).toPath());
-           List<String> actualLines = Files.readAllLines(new File(ACTUAL_TEST_FILE).toPath());
-
-           // Normalize whitespace for comparison, while preserving multi-line notes
-           for (int i = 0; i < expectedLines.size(); i++) {
-               String expected = expectedLines.get(i).trim();
-               String actual = actualLines.get(i).trim();
-               assertEquals("File content mismatch on line " + i, expected, actual);
-           }
-       } catch (IOException e) {
-           fail("Error reading file: " + e.getMessage());
-       }
-   }
-
-}
\ No newline at end of file
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+
+/** Tests the functionality of the AppManager class. */
+public class AppManagerTest {
+	
+	/** Directory for expected test file */
+	private static final String VALID_TEST_FILE = "test-files/exp_app_interview.txt";
+	
+	/** Directory for actual test file */
+    private static final String ACTUAL_TEST_FILE = "test-files/act_app_interview.txt";
+
+    /** Reference to the AppManager instance */
+    private AppManager manager;
+
+    /** Sets up the AppManager instance before each test. */
+    @BeforeEach
+    void setUp() {
+        manager = AppManager.getInstance();
+        manager.createNewAppList();
+    }
+
+    /** Tests the singleton pattern of AppManager. */
+    @Test
+    void testGetInstance() {
+        assertNotNull(manager);
+        assertEquals(manager, AppManager.getInstance());
+    }
+
+    /** Tests adding an application to the list. */
+    @Test
+    void testAddAppToList() {
+        manager.addAppToList(AppType.NEW, "Test App", "Test Note");
+        assertNotNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic
+    }
+
+    /** Tests retrieving an application by ID. */
+    @Test
+    void testGetAppById() {
+        manager.addAppToList(AppType.NEW, "Test App", "Test Note");
+        Application app = manager.getAppById(1); // Adjusted ID expectation based on counter logic
+        assertNotNull(app);
+        assertEquals("Test App", app.getSummary());
+    }
+
+   /** Tests executing a command on an application. */
+   @Test
+   void testExecuteCommand() {
+       manager.addAppToList(AppType.NEW, "Test App", "Test Note");
+       Command command = new Command(CommandValue.ACCEPT, "Reviewer1", Resolution.REVCOMPLETED, "Accepted");
+       manager.executeCommand(1, command); // Adjusted ID expectation based on counter logic
+       assertEquals("Interview", manager.getAppById(1).getStateName());
+   }
+
+   /** Tests retrieving the entire application list as an array. */
+   @Test
+   void testGetAppListAsArray() {
+       manager.addAppToList(AppType.NEW, "App 1", "Note");
+       manager.addAppToList(AppType.OLD, "App 2", "Note");
+       Object[][] allApps = manager.getAppListAsArray();
+       assertEquals(2, allApps.length);
+   }
+
+   /** Tests deleting an application by ID. */
+   @Test
+   void testDeleteAppById() {
+       manager.addAppToList(AppType.NEW, "Test App", "Note");
+       assertNotNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic
+       manager.deleteAppById(1); // Adjusted ID expectation based on counter logic
+       assertNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic
+   }
+
+
+   /** Tests creating a new application list. */
+   @Test
+   void testCreateNewAppList() {
+       manager.addAppToList(AppType.NEW, "Test App", "Note");
+       manager.createNewAppList();
+       assertNull(manager.getAppById(1)); // Adjusted ID expectation based on counter logic after reset
+   }
+   
+   /** Tests adding an application with null type. */
+   @Test
+   void testAddAppWithNullType() {
+       assertThrows(IllegalArgumentException.class, () -> {
+           manager.addAppToList(null, "Test App", "Test Note");
+       });
+   }
+
+   /** Tests retrieving applications by a non-existent ID. */
+   @Test
+   void testGetAppByNonExistentId() {
+       manager.createNewAppList(); // Reset list
+       assertNull(manager.getAppById(999)); // Assuming 999 is a non-existent ID
+   }
+
+
+   /** Tests loading applications from an invalid file. */
+   @Test
+   void testLoadAppsFromInvalidFile() {
+       assertThrows(RuntimeException.class, () -> {
+           manager.loadAppsFromFile("invalid_file.txt");
+       });
+   }
+
+
+   /** Tests retrieving app list as array by invalid app type. */
+   @Test
+   void testGetAppListAsArrayByInvalidType() {
+       assertThrows(IllegalArgumentException.class, () -> {
+           manager.getAppListAsArrayByAppType(null);
+       });
+   }
+   
+   /** Tests loading applications from a valid file. */
+   @Test
+   public void testLoadAppsFromFile() {
+       // Load applications from the expected file
+       manager.loadAppsFromFile(VALID_TEST_FILE);
+
+       // Retrieve the list of apps and verify their details
+       Object[][] appsArray = manager.getAppListAsArray();
+       
+       assertEquals(1, appsArray.length);
+
+       // Validate the first application
+       assertEquals(5, appsArray[0][0]); // App ID
+       assertEquals("Interview", appsArray[0][1]); // State Name
+       assertEquals("Old", appsArray[0][2]); // App Type
+       assertEquals("Application summary", appsArray[0][3]); // Summary
+       assertTrue(manager.isSavedTo(VALID_TEST_FILE));
+
+       // Merging a second file leaves the list matching neither file
+       manager.loadAppsFromFile("test-files/app2.txt");
+       assertFalse(manager.isSavedTo(VALID_TEST_FILE));
+       assertFalse(manager.isSavedTo("test-files/app2.txt"));
+       assertFalse(manager.isSavedTo(null));
+       manager.saveAppsToFile(ACTUAL_TEST_FILE);
+       assertTrue(manager.isSavedTo(ACTUAL_TEST_FILE));
+   }
+
+   /** Tests saving applications from a valid file. */
+   @Test
+   public void testSaveAppsToFile() {
+       // Load apps from file
+       manager.loadAppsFromFile(VALID_TEST_FILE);
+
+       // Save the apps to a new file
+       manager.saveAppsToFile(ACTUAL_TEST_FILE);
+
+       // Compare the content of the saved file with the expected file
+       try {
+           List<String> expectedLines = Files.readAllLines(new File(VALID_TEST_FILE).toPath());
+           List<String> actualLines = Files.readAllLines(new File(ACTUAL_TEST_FILE).toPath());
+
+           // Normalize whitespace for comparison, while preserving multi-line notes
+           for (int i = 0; i < expectedLines.size(); i++) {
+               String expected = expectedLines.get(i).trim();
+               String actual = actualLines.get(i).trim();
+               assertEquals("File content mismatch on line " + i, expected, actual);
+           }
+       } catch (IOException e) {
+           fail("Error reading file: " + e.getMessage());
+       }
+   }
+
+   /** Tests loading applications from a valid file in parallel. */
+   @Test
+   public void testLoadAppsFromFileInParallel() {
+       manager.loadAppsFromFileInParallel("test-files/app2.txt");
+       Object[][] appsArray = manager.getAppListAsArray();
+       assertEquals(6, appsArray.length);
+       assertEquals(1, appsArray[0][0]);
+       assertEquals("RefCheck", appsArray[2][1]);
+       assertEquals(15, appsArray[4][0]);
+       assertEquals("Closed", appsArray[4][1]);
+       assertEquals(16, appsArray[5][0]);
+
+       assertThrows(IllegalArgumentException.class, () -> manager.loadAppsFromFileInParallel("invalid_file.txt"));
+   }
+
+   /**
+    * Tests that an incremental save appends only the changes, and that loading applies them.
+    *
+    * @throws IOException if the temporary file cannot be created
+    */
+   @Test
+   public void testSaveChangesToFile() throws IOException {
+       File file = File.createTempFile("apps", ".txt");
+       File segment = new File(file.getPath() + AppManager.CHANGES_SUFFIX);
+       file.deleteOnExit();
+       segment.deleteOnExit();
+       Files.copy(new File("test-files/app1.txt").toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+       manager.loadAppsFromFile(file.getPath());
+       assertEquals(0, manager.getUnsavedChangeCount());
+       long savedLength = file.length();
+
+       manager.executeCommand(3, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Accepted"));
+       manager.deleteAppById(7);
+       manager.deleteAppById(99);
+       assertEquals(2, manager.getUnsavedChangeCount());
+       manager.saveChangesToFile(file.getPath());
+       assertEquals(0, manager.getUnsavedChangeCount());
+       assertEquals(savedLength, file.length());
+       assertTrue(segment.exists());
+
+       manager.createNewAppList();
+       manager.loadAppsFromFile(file.getPath());
+       Object[][] appsArray = manager.getAppListAsArray();
+       assertEquals(5, appsArray.length);
+       assertEquals(3, appsArray[1][0]);
+       assertEquals("Offer", appsArray[1][1]);
+       assertEquals(14, appsArray[2][0]);
+       assertNull(manager.getAppById(7));
+
+       // A full save compacts the segment into the file
+       manager.saveAppsToFile(file.getPath());
+       assertFalse(segment.exists());
+       manager.createNewAppList();
+       manager.loadAppsFromFile(file.getPath());
+       assertEquals(5, manager.getAppListAsArray().length);
+       assertEquals("Offer", manager.getAppById(3).getStateName());
+   }
+
+   /**
+    * Tests that an incremental save to a file the list was not loaded from writes the whole list.
+    *
+    * @throws IOException if the temporary file cannot be created
+    */
+   @Test
+   public void testSaveChangesToNewFile() throws IOException {
+       File file = File.createTempFile("apps", ".txt");
+       file.deleteOnExit();
+       manager.loadAppsFromFile(VALID_TEST_FILE);
+       manager.saveChangesToFile(file.getPath());
+       assertFalse(new File(file.getPath() + AppManager.CHANGES_SUFFIX).exists());
+       manager.createNewAppList();
+       manager.loadAppsFromFile(file.getPath());
+       assertEquals("Interview", manager.getAppById(5).getStateName());
+   }
+
+   /**
+    * Tests that changes made after a load are recovered from the command log.
+    *
+    * @throws IOException if the temporary files cannot be created
+    */
+   @Test
+   public void testRecoverFromLog() throws IOException {
+       File file = File.createTempFile("apps", ".txt");
+       File log = File.createTempFile("apps", ".log");
+       file.deleteOnExit();
+       log.deleteOnExit();
+       Files.copy(new File("test-files/app1.txt").toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+       manager.loadAppsFromFile(file.getPath());
+       manager.enableCommandLog(log.getPath());
+       manager.executeCommand(3, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Accepted"));
+       manager.deleteAppById(7);
+       manager.addAppToList(AppType.NEW, "Recovered", "Added after load");
+       assertThrows(UnsupportedOperationException.class,
+               () -> manager.executeCommand(15, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Closed")));
+       manager.disableCommandLog();
+
+       manager.createNewAppList();
+       manager.recoverFromLog(file.getPath(), log.getPath());
+       assertEquals(3, manager.getUnsavedChangeCount());
+       assertEquals("Offer", manager.getAppById(3).getStateName());
+       assertNull(manager.getAppById(7));
+       assertEquals("Recovered", manager.getAppById(18).getSummary());
+       assertEquals("Closed", manager.getAppById(15).getStateName());
+
+       // A save checkpoints the log, so a later recovery has nothing to replay
+       manager.executeCommand(18, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Accepted"));
+       manager.saveAppsToFile(file.getPath());
+       manager.disableCommandLog();
+       assertEquals(0, log.length());
+       manager.recoverFromLog(file.getPath(), log.getPath());
+       assertEquals(0, manager.getUnsavedChangeCount());
+       assertEquals(6, manager.getAppListAsArray().length);
+
+       // Merging another file keeps the log, which now holds the merged applications
+       manager.loadAppsFromFile(VALID_TEST_FILE);
+       manager.deleteAppById(1);
+       manager.disableCommandLog();
+       assertTrue(log.length() > 0);
+       manager.createNewAppList();
+       manager.recoverFromLog(file.getPath(), log.getPath());
+       assertEquals(6, manager.getAppListAsArray().length);
+       assertNull(manager.getAppById(1));
+       assertEquals("Interview", manager.getAppById(5).getStateName());
+       assertEquals("Application summary", manager.getAppById(5).getSummary());
+       manager.disableCommandLog();
+   }
+
+   /** Tests that batch commands mark only the applications they changed as unsaved. */
+   @Test
+   public void testExecuteCommands() {
+       manager.loadAppsFromFile("test-files/app1.txt");
+       Map<Integer, Command> commands = new HashMap<>();
+       commands.put(3, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Accepted"));
+       commands.put(15, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Accepted"));
+       commands.put(99, new Command(CommandValue.ACCEPT, "Reviewer1", null, "Accepted"));
+       assertEquals("{3=APPLIED, 15=INVALID_TRANSITION, 99=MISSING}", manager.executeCommands(commands).toString());
+       assertEquals(1, manager.getUnsavedChangeCount());
+
+       Command reject = new Command(CommandValue.REJECT, null, Resolution.OFFERCOMPLETED, "Rejected");
+       assertEquals("{1=APPLIED, 3=APPLIED}", manager.executeCommand(1, 3, reject).toString());
+       assertEquals(2, manager.getUnsavedChangeCount());
+       assertEquals(3, manager.executeCommand(app -> "Closed".equals(app.getStateName()), reject).size());
+       assertEquals(2, manager.getUnsavedChangeCount());
+   }
+
+   /**
+    * Stress tests concurrent mode with writers that transition, add and delete
+    * applications while readers read the table and look up applications.
+    *
+    * @throws Exception if a thread fails
+    */
+   @Test
+   public void testConcurrentMode() throws Exception {
+       stressTest(true);
+   }
+
+   /**
+    * Stress tests default mode, whose list is shared by the lock stripes too, in the
+    * same way as concurrent mode.
+    *
+    * @throws Exception if a thread fails
+    */
+   @Test
+   public void testDefaultModeFromSeveralThreads() throws Exception {
+       stressTest(false);
+   }
+
+   /**
+    * Runs writers that transition, add and delete applications on different stripes
+    * while a reader reads the table and looks up applications, then checks that no
+    * change was lost.
+    *
+    * @param concurrent whether to run in concurrent mode
+    * @throws Exception if a thread fails
+    */
+   private void stressTest(boolean concurrent) throws Exception {
+       manager.setConcurrentMode(concurrent);
+       ExecutorService pool = Executors.newFixedThreadPool(8);
+       try {
+           assertEquals(concurrent, manager.isConcurrentMode());
+           for (int i = 0; i < 200; i++) {
+               manager.addAppToList(AppType.NEW, "Summary " + i, "Note");
+           }
+           for (int i = 0; i < 2000; i++) {
+               manager.addAppToList(AppType.OLD, "Deleted", "Note");
+           }
+           List<Integer> deleted = new ArrayList<>();
+           for (Application app : manager.getAppsByType(Application.A_OLD)) {
+               deleted.add(app.getAppId());
+           }
+           List<Future<?>> tasks = new ArrayList<>();
+           tasks.add(pool.submit(() -> {
+               for (int id : deleted) {
+                   manager.deleteAppById(id);
+               }
+           }));
+           for (int t = 0; t < 4; t++) {
+               int thread = t;
+               tasks.add(pool.submit(() -> {
+                   // Each application goes through Interview and RefCheck to Offer
+                   for (int step = 0; step < 3; step++) {
+                       for (int id = 1 + 2 * thread; id < 400; id += 8) {
+                           manager.executeCommand(id, new Command(CommandValue.ACCEPT, "Reviewer", null, "Step " + step));
+                       }
+                   }
+               }));
+           }
+           for (int t = 0; t < 2; t++) {
+               tasks.add(pool.submit(() -> {
+                   for (int i = 0; i < 1000; i++) {
+                       manager.addAppToList(AppType.OLD, "Added", "Note");
+                   }
+               }));
+           }
+           tasks.add(pool.submit(() -> {
+               for (int i = 0; i < 200; i++) {
+                   Object[][] table = manager.getAppListAsArray();
+                   for (int row = 1; row < table.length; row++) {
+                       assertTrue((Integer) table[row - 1][0] < (Integer) table[row][0]);
+                   }
+                   assertNotNull(manager.getAppById(1));
+               }
+           }));
+           for (Future<?> task : tasks) {
+               task.get(30, TimeUnit.SECONDS);
+           }
+       } finally {
+           pool.shutdownNow();
+           manager.setConcurrentMode(false);
+       }
+       assertFalse(manager.isConcurrentMode());
+       Object[][] table = manager.getAppListAsArray();
+       assertEquals(2200, table.length);
+       assertEquals(2200, manager.getAppListSnapshot().size());
+       assertEquals(2000, manager.getAppsByType(Application.A_OLD).size());
+       assertEquals(200, manager.getAppCountByState(AppState.OFFER));
+       assertEquals(2000, manager.getAppCountByState(AppState.REVIEW));
+       assertEquals(4200, manager.getUnsavedChangeCount());
+       for (int id = 1; id < 400; id += 2) {
+           assertEquals("Offer", manager.getAppById(id).getStateName());
+       }
+       for (int row = 200; row < 2200; row++) {
+           assertEquals("Added", table[row][3]);
+       }
+   }
+
+   /** Tests that the list version changes with the list and when the list is replaced. */
+   @Test
+   public void testGetAppListVersion() {
+       long empty = manager.getAppListVersion();
+       manager.addAppToList(AppType.NEW, "Summary", "Note");
+       long added = manager.getAppListVersion();
+       assertTrue(added > empty);
+       assertEquals(added, manager.getAppListVersion());
+       assertEquals(1, manager.getAppListSnapshot().size());
+       manager.executeCommand(1, new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted"));
+       assertTrue(manager.getAppListVersion() > added);
+       long updated = manager.getAppListVersion();
+       manager.createNewAppList();
+       assertTrue(manager.getAppListVersion() > updated);
+   }
+
+   /** Tests that the cached table rows are patched and listeners told which rows changed. */
+   @Test
+   public void testAppListListener() {
+       List<String> events = new ArrayList<>();
+       AppListListener listener = new AppListListener() {
+           @Override
+           public void rowsInserted(int firstRow, int lastRow) {
+               events.add("inserted " + firstRow + "-" + lastRow);
+           }
+
+           @Override
+           public void rowsUpdated(int firstRow, int lastRow) {
+               events.add("updated " + firstRow + "-" + lastRow);
+           }
+
+           @Override
+           public void rowsDeleted(int firstRow, int lastRow) {
+               events.add("deleted " + firstRow + "-" + lastRow);
+           }
+
+           @Override
+           public void listChanged() {
+               events.add("changed");
+           }
+       };
+       manager.addAppListListener(listener);
+       try {
+           // Without cached rows the events are found from the snapshot
+           manager.addAppToList(AppType.NEW, "First", "Note");
+           manager.addAppToList(AppType.NEW, "Extra", "Note");
+           manager.deleteAppById(3);
+           assertEquals(List.of("inserted 0-0", "inserted 1-1", "deleted 1-1"), events);
+           events.clear();
+           Object[][] rows = manager.getAppListAsArray();
+           assertEquals(1, rows.length);
+
+           manager.addAppToList(AppType.OLD, "Second", "Note");
+           manager.addAppToList(AppType.NEW, "Third", "Note");
+           manager.executeCommand(5, new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted"));
+           manager.deleteAppById(1);
+           manager.executeCommand(99, new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted"));
+           assertEquals(List.of("inserted 1-1", "inserted 2-2", "updated 1-1", "deleted 0-0"), events);
+
+           rows = manager.getAppListAsArray();
+           assertEquals(2, rows.length);
+           assertEquals(5, rows[0][0]);
+           assertEquals(Application.INTERVIEW_NAME, rows[0][1]);
+           assertEquals("Old", rows[0][2]);
+           assertEquals(7, rows[1][0]);
+           assertEquals(Application.REVIEW_NAME, rows[1][1]);
+
+           Map<Integer, Command> commands = new HashMap<>();
+           commands.put(7, new Command(CommandValue.ACCEPT, "Reviewer", null, "Accepted"));
+           manager.executeCommands(commands);
+           assertEquals("updated 1-1", events.get(events.size() - 1));
+           // Callers get copies, so their rows neither see later changes nor change the cache
+           assertEquals(Application.REVIEW_NAME, rows[1][1]);
+           rows[0][1] = "Changed";
+           rows = manager.getAppListAsArray();
+           assertEquals(Application.INTERVIEW_NAME, rows[0][1]);
+           assertEquals(Application.INTERVIEW_NAME, rows[1][1]);
+
+           // A single row is read without copying the table
+           Object[] row = manager.getAppListRow(1);
+           assertEquals(7, row[0]);
+           assertEquals(Application.INTERVIEW_NAME, row[1]);
+           row[1] = "Changed";
+           assertEquals(Application.INTERVIEW_NAME, manager.getAppListRow(1)[1]);
+           assertThrows(IllegalArgumentException.class, () -> manager.getAppListRow(2));
+           assertThrows(IllegalArgumentException.class, () -> manager.getAppListRow(-1));
+
+           manager.createNewAppList();
+           assertEquals("changed", events.get(events.size() - 1));
+           assertEquals(0, manager.getAppListAsArray().length);
+       } finally {
+           manager.removeAppListListener(listener);
+       }
+   }
+
+   /** Tests looking up the applications of a type. */
+   @Test
+   public void testGetAppsByType() {
+       manager.addAppToList(AppType.NEW, "First", "Note");
+       manager.addAppToList(AppType.OLD, "Second", "Note");
+       manager.addAppToList(AppType.NEW, "Third", "Note");
+       List<Application> apps = manager.getAppsByType("New");
+       assertEquals(2, apps.size());
+       assertEquals(1, apps.get(0).getAppId());
+       assertEquals(5, apps.get(1).getAppId());
+       assertEquals(1, manager.getAppsByType("Old").size());
+       assertTrue(manager.getAppsByType("new").isEmpty());
+       assertThrows(IllegalArgumentException.class, () -> manager.getAppsByType(null));
+   }
+
+   /** Tests loading and saving with progress, and that a cancelled load leaves the list as it was. */
+   @Test
+   public void testLoadAndSaveWithProgress() throws IOException {
+       List<Integer> events = new ArrayList<>();
+       AppListListener listener = new AppListListener() {
+           @Override
+           public void rowsInserted(int firstRow, int lastRow) {
+               // Not expected while loading
+           }
+
+           @Override
+           public void rowsUpdated(int firstRow, int lastRow) {
+               // Not expected while loading
+           }
+
+           @Override
+           public void rowsDeleted(int firstRow, int lastRow) {
+               // Not expected while loading
+           }
+
+           @Override
+           public void listChanged() {
+               events.add(manager.getAppListSnapshot().size());
+           }
+       };
+       manager.addAppListListener(listener);
+       try {
+           manager.loadAppsFromFile("test-files/app1.txt", (records, bytes) -> true);
+           assertEquals(6, manager.getAppListSnapshot().size());
+           assertEquals(6, (int) events.get(events.size() - 1));
+           assertEquals(0, manager.getUnsavedChangeCount());
+
+           manager.createNewAppList();
+           manager.addAppToList(AppType.NEW, "Kept", "Note");
+           assertThrows(CancellationException.class,
+                   () -> manager.loadAppsFromFile("test-files/app1.txt", (records, bytes) -> false));
+           assertEquals(1, manager.getAppListSnapshot().size());
+           assertEquals("Kept", manager.getAppById(1).getSummary());
+           assertThrows(IllegalArgumentException.class,
+                   () -> manager.loadAppsFromFile("test-files/app5.txt", (records, bytes) -> true));
+           assertEquals(1, manager.getAppListSnapshot().size());
+
+           manager.createNewAppList();
+           manager.loadAppsFromFile("test-files/app1.txt");
+           List<Integer> saved = new ArrayList<>();
+           manager.saveAppsToFile(ACTUAL_TEST_FILE, (records, bytes) -> saved.add(records));
+           assertEquals(6, (int) saved.get(saved.size() - 1));
+           manager.createNewAppList();
+           manager.loadAppsFromFile(ACTUAL_TEST_FILE);
+           assertEquals(6, manager.getAppListSnapshot().size());
+       } finally {
+           manager.removeAppListListener(listener);
+       }
+   }
+
+   /** Tests the application counts and the transition rates. */
+   @Test
+   public void testCountsAndRates() {
+       manager.loadAppsFromFile("test-files/app1.txt");
+       long reviews = manager.getAppCountByState(AppState.REVIEW);
+       assertEquals(manager.getAppsByState(AppState.REVIEW).size(), reviews);
+       assertEquals(manager.getAppsByType("Old").size(), manager.getAppCountByType(AppType.OLD));
+       long accepts = manager.getTransitionsPerMinute(AppState.REVIEW, CommandValue.ACCEPT);
+
+       manager.addAppToList(AppType.NEW, "Summary", "Note");
+       int id = manager.getAppListSnapshot().get(manager.getAppListSnapshot().size() - 1).getAppId();
+       assertEquals(reviews + 1, manager.getAppCountByState(AppState.REVIEW));
+       manager.enableMetrics();
+       try {
+           manager.executeCommand(id, new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+       } finally {
+           manager.disableMetrics();
+       }
+       assertEquals(reviews, manager.getAppCountByState(AppState.REVIEW));
+       assertTrue(manager.getTransitionsPerMinute(AppState.REVIEW, CommandValue.ACCEPT) >= accepts + 1);
+
+       manager.deleteAppById(id);
+       assertEquals(manager.getAppsByState(AppState.INTERVIEW).size(), manager.getAppCountByState(AppState.INTERVIEW));
+       manager.createNewAppList();
+       assertEquals(0, manager.getAppCountByState(AppState.REVIEW));
+   }
+}
@@ -0,0 +1,277 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.app_manager.model.io.AppReader;
+import edu.ncsu.csc216.app_manager.model.io.AppWriter;
+
+/**
+ * Tests the autosave of AppManager through AutosaveService.
+ *
+ * @author Praneel Magapu
+ */
+public class AutosaveServiceTest {
+
+    /** Longest time to wait for a background save, in milliseconds */
+    private static final long TIMEOUT = 10000;
+
+    /** Reference to the AppManager instance */
+    private AppManager manager;
+
+    /** File the list is autosaved to */
+    private File file;
+
+    /**
+     * Starts each test with an empty list and a file that does not exist yet.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        manager = AppManager.getInstance();
+        manager.disableCommandLog();
+        manager.createNewAppList();
+        file = File.createTempFile("autosave", ".txt");
+        file.delete();
+    }
+
+    /**
+     * Stops autosave and deletes the files it wrote.
+     */
+    @AfterEach
+    void tearDown() {
+        manager.disableAutosave();
+        manager.flushAutosave();
+        file.delete();
+        new File(file.getPath() + AppManager.CHANGES_SUFFIX).delete();
+    }
+
+    /**
+     * Tests that the list is saved once enough changes have been made.
+     */
+    @Test
+    void testSavesAfterThreshold() {
+        addApps(3);
+        manager.saveAppsToFile(file.getPath());
+        manager.enableAutosave(file.getPath(), 60000, 2);
+        assertTrue(manager.isAutosaveEnabled());
+
+        manager.addAppToList(AppType.NEW, "Summary 4", "Note 4");
+        manager.addAppToList(AppType.NEW, "Summary 5", "Note 5");
+        awaitFile(5);
+        assertSameApps();
+    }
+
+    /**
+     * Tests that the change threshold still starts saves after a save has failed.
+     */
+    @Test
+    void testSavesAfterFailure() {
+        File dir = new File(file.getPath() + ".dir");
+        file = new File(dir, "apps.txt");
+        try {
+            // The directory does not exist yet, so the saves fail
+            manager.enableAutosave(file.getPath(), 60000, 2);
+            addApps(2);
+            assertThrows(IllegalArgumentException.class, manager::flushAutosave);
+
+            assertTrue(dir.mkdir());
+            manager.addAppToList(AppType.NEW, "Summary 3", "Note 3");
+            awaitFile(3);
+            assertSameApps();
+        } finally {
+            manager.disableAutosave();
+            manager.flushAutosave();
+            file.delete();
+            dir.delete();
+        }
+    }
+
+    /**
+     * Tests that changes are saved at the interval when there are too few to start a save.
+     */
+    @Test
+    void testSavesAfterInterval() {
+        addApps(2);
+        manager.saveAppsToFile(file.getPath());
+        manager.enableAutosave(file.getPath(), 50, 1000);
+
+        manager.executeCommand(idAt(0), new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        manager.deleteAppById(idAt(1));
+        awaitFile(1);
+        assertEquals("Interview", AppReader.readAppsFromFile(file.getPath()).get(0).getStateName());
+    }
+
+    /**
+     * Tests that a list that was never saved to the file is saved right away, and that
+     * flushAutosave saves the changes left with nothing partly written behind.
+     */
+    @Test
+    void testFlushAutosave() {
+        addApps(10);
+        manager.enableAutosave(file.getPath(), 60000, 1000);
+        awaitFile(10);
+
+        manager.executeCommand(idAt(2), new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected"));
+        manager.addAppToList(AppType.OLD, "Summary 11", "Note 11");
+        manager.flushAutosave();
+        assertSameApps();
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    /**
+     * Tests that an autosave includes the change segment of the file and deletes it.
+     */
+    @Test
+    void testReplacesChangeSegment() {
+        addApps(5);
+        manager.saveAppsToFile(file.getPath());
+        manager.deleteAppById(idAt(3));
+        manager.saveChangesToFile(file.getPath());
+        File segment = new File(file.getPath() + AppManager.CHANGES_SUFFIX);
+        assertTrue(segment.exists());
+
+        manager.enableAutosave(file.getPath(), 60000, 1000);
+        manager.addAppToList(AppType.NEW, "Summary 6", "Note 6");
+        manager.flushAutosave();
+        assertFalse(segment.exists());
+        assertSameApps();
+    }
+
+    /**
+     * Tests that replacing the list or disabling autosave stops it after a final save.
+     */
+    @Test
+    void testFinalSave() {
+        addApps(2);
+        manager.enableAutosave(file.getPath(), 60000, 1000);
+        manager.addAppToList(AppType.NEW, "Summary 3", "Note 3");
+        manager.createNewAppList();
+        assertFalse(manager.isAutosaveEnabled());
+        manager.flushAutosave();
+        assertEquals(3, AppReader.readAppsFromFile(file.getPath()).size());
+
+        // Changes to the new list do not reach the file
+        manager.addAppToList(AppType.NEW, "Other", "Other");
+        manager.flushAutosave();
+        assertEquals(3, AppReader.readAppsFromFile(file.getPath()).size());
+
+        manager.loadAppsFromFile(file.getPath());
+        manager.enableAutosave(file.getPath(), 60000, 1000);
+        manager.deleteAppById(idAt(0));
+        manager.disableAutosave();
+        assertFalse(manager.isAutosaveEnabled());
+        manager.flushAutosave();
+        assertEquals(2, AppReader.readAppsFromFile(file.getPath()).size());
+    }
+
+    /**
+     * Tests that invalid settings are rejected and that autosave and the command log
+     * cannot be used together.
+     *
+     * @throws IOException if the temporary log cannot be created
+     */
+    @Test
+    void testInvalidAutosave() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> manager.enableAutosave(null, 1000, 10));
+        assertThrows(IllegalArgumentException.class, () -> manager.enableAutosave("", 1000, 10));
+        assertThrows(IllegalArgumentException.class, () -> manager.enableAutosave(file.getPath(), 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> manager.enableAutosave(file.getPath(), 1000, 0));
+        assertFalse(manager.isAutosaveEnabled());
+
+        // Autosave writes text, so it would replace a binary file with a text one
+        addApps(2);
+        AppWriter.writeAppsToBinaryFile(file.getPath(), manager.getAppListSnapshot());
+        assertThrows(IllegalArgumentException.class, () -> manager.enableAutosave(file.getPath(), 1000, 10));
+        assertFalse(manager.isAutosaveEnabled());
+        assertTrue(AppReader.isBinaryFile(file.getPath()));
+        file.delete();
+
+        File log = File.createTempFile("autosave", ".log");
+        try {
+            manager.enableAutosave(file.getPath(), 60000, 1000);
+            assertThrows(IllegalStateException.class, () -> manager.enableCommandLog(log.getPath()));
+            manager.disableAutosave();
+            manager.enableCommandLog(log.getPath());
+            assertThrows(IllegalStateException.class, () -> manager.enableAutosave(file.getPath(), 60000, 1000));
+        } finally {
+            manager.disableCommandLog();
+            log.delete();
+        }
+    }
+
+    /**
+     * Adds applications with numbered summaries and notes.
+     *
+     * @param count the number of applications to add
+     */
+    private void addApps(int count) {
+        for (int i = 1; i <= count; i++) {
+            manager.addAppToList(AppType.NEW, "Summary " + i, "Note " + i);
+        }
+    }
+
+    /**
+     * Returns the id of the application at the given position of the list.
+     *
+     * @param index the position of the application
+     * @return the id of the application
+     */
+    private int idAt(int index) {
+        return manager.getAppListSnapshot().get(index).getAppId();
+    }
+
+    /**
+     * Waits for an autosave to leave the given number of applications in the file.
+     *
+     * @param size the number of applications
+     */
+    private void awaitFile(int size) {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (System.currentTimeMillis() < deadline) {
+            // The file is replaced by a rename, so it is never read partly written
+            if (file.exists() && AppReader.readAppsFromFile(file.getPath()).size() == size) {
+                return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                fail("Interrupted");
+            }
+        }
+        fail("The file was not saved");
+    }
+
+    /**
+     * Asserts that the file holds the same applications as the list. Applications without
+     * a reviewer are read back with an empty one, so the reviewers are not compared.
+     */
+    private void assertSameApps() {
+        List<Application> saved = AppReader.readAppsFromFile(file.getPath());
+        AppListSnapshot apps = manager.getAppListSnapshot();
+        assertEquals(apps.size(), saved.size());
+        for (int i = 0; i < apps.size(); i++) {
+            assertEquals(apps.get(i).getAppId(), saved.get(i).getAppId());
+            assertEquals(apps.get(i).getStateName(), saved.get(i).getStateName());
+            assertEquals(apps.get(i).getSummary(), saved.get(i).getSummary());
+            assertEquals(apps.get(i).getNotesString(), saved.get(i).getNotesString());
+        }
+    }
+}
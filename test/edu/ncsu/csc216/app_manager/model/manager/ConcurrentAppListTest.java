@@ -0,0 +1,72 @@
+package edu.ncsu.csc216.app_manager.model.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+
+/** Tests the functionality of the ConcurrentAppList class.
+ *
+ *  @author Praneel Magapu
+ *
+ */
+public class ConcurrentAppListTest {
+
+    /** Reference to the ConcurrentAppList object */
+    private ConcurrentAppList appList;
+
+    /** Sets up a new ConcurrentAppList instance before each test. */
+    @BeforeEach
+    void setUp() {
+        appList = new ConcurrentAppList();
+    }
+
+    /** Tests that readers see every structural change once it is made. */
+    @Test
+    void testReadsSeeChanges() {
+        assertEquals(1, appList.addApp(AppType.NEW, "Summary 1", "Note 1"));
+        assertEquals(3, appList.addApp(AppType.OLD, "Summary 2", "Note 2"));
+        appList.addApps(List.of(new Application(2, AppType.NEW, "Summary 3", "Note 3")));
+        assertEquals(3, appList.size());
+        assertEquals("Summary 3", appList.getAppById(2).getSummary());
+        assertEquals(2, appList.getAppsByType("new").size());
+
+        appList.deleteAppById(1);
+        assertNull(appList.getAppById(1));
+        assertEquals(2, appList.getApps().size());
+        assertEquals(2, appList.getApps().get(0).getAppId());
+    }
+
+    /** Tests that an iterator keeps reading the snapshot it started from. */
+    @Test
+    void testIteratorIsSnapshot() {
+        appList.addApp(AppType.NEW, "Summary 1", "Note 1");
+        appList.addApp(AppType.NEW, "Summary 2", "Note 2");
+        Iterator<Application> iterator = appList.iterator();
+        appList.deleteAppById(1);
+        appList.addApp(AppType.NEW, "Summary 3", "Note 3");
+        assertEquals(1, iterator.next().getAppId());
+        assertEquals(3, iterator.next().getAppId());
+        assertEquals(false, iterator.hasNext());
+    }
+
+    /** Tests that copying a list keeps its applications and its next id. */
+    @Test
+    void testCopy() {
+        AppList source = new AppList();
+        source.addApp(AppType.NEW, "Summary 1", "Note 1");
+        source.addApp(AppType.NEW, "Summary 2", "Note 2");
+        source.deleteAppById(3);
+        ConcurrentAppList copy = new ConcurrentAppList(source);
+        assertEquals(1, copy.size());
+        assertEquals(source.nextAppId(), copy.nextAppId());
+        assertEquals(source.addApp(AppType.OLD, "Summary", "Note"), copy.addApp(AppType.OLD, "Summary", "Note"));
+    }
+}
@@ -0,0 +1,144 @@
+package edu.ncsu.csc216.app_manager.model.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.app_manager.model.application.Application.AppState;
+import edu.ncsu.csc216.app_manager.model.application.Application.AppType;
+import edu.ncsu.csc216.app_manager.model.command.Command;
+import edu.ncsu.csc216.app_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.app_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.app_manager.model.manager.AppManager;
+import edu.ncsu.csc216.app_manager.model.metrics.AppManagerMetrics.Operation;
+
+/**
+ * Tests the AppManagerMetrics class, as recorded by AppManager.
+ *
+ * @author Praneel Magapu
+ */
+public class AppManagerMetricsTest {
+
+    /** The manager */
+    private AppManager manager;
+
+    /** The manager's metrics */
+    private AppManagerMetrics metrics;
+
+    /** Sets up an empty list with metrics enabled and cleared. */
+    @BeforeEach
+    void setUp() {
+        manager = AppManager.getInstance();
+        manager.createNewAppList();
+        manager.enableMetrics();
+        metrics = manager.getMetrics();
+        metrics.reset();
+    }
+
+    /** Disables the metrics again. */
+    @AfterEach
+    void tearDown() {
+        manager.disableMetrics();
+    }
+
+    /** Tests that operations, transitions and failures are recorded. */
+    @Test
+    void testRecording() {
+        manager.addAppToList(AppType.NEW, "Summary", "Note");
+        manager.addAppToList(AppType.OLD, "Summary", "Note");
+        manager.executeCommand(1, new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        manager.executeCommand(1, new Command(CommandValue.ACCEPT, "reviewer", null, "Accepted"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> manager.executeCommand(1, new Command(CommandValue.REOPEN, null, null, "Reopened")));
+        assertThrows(IllegalArgumentException.class, () -> manager.addAppToList(null, "Summary", "Note"));
+        manager.deleteAppById(3);
+        manager.getAppListAsArray();
+        manager.getAppListAsArrayByAppType("New");
+
+        assertEquals(3, metrics.getLatencies(Operation.ADD_APP).getCount());
+        assertEquals(3, metrics.getLatencies(Operation.EXECUTE_COMMAND).getCount());
+        assertEquals(1, metrics.getLatencies(Operation.DELETE_APP).getCount());
+        assertEquals(1, metrics.getLatencies(Operation.LIST_AS_ARRAY).getCount());
+        assertEquals(1, metrics.getLatencies(Operation.LIST_AS_ARRAY_BY_TYPE).getCount());
+        assertEquals(1, metrics.getTransitionCount(AppState.REVIEW, CommandValue.ACCEPT, AppState.INTERVIEW));
+        assertEquals(1, metrics.getTransitionCount(AppState.INTERVIEW, CommandValue.ACCEPT, AppState.REFCHK));
+        assertEquals(0, metrics.getTransitionCount(AppState.REFCHK, CommandValue.REOPEN, AppState.INTERVIEW));
+        assertEquals(1, metrics.getFailureCount(UnsupportedOperationException.class));
+        assertEquals(1, metrics.getFailureCount(IllegalArgumentException.class));
+
+        assertEquals(Long.valueOf(3), metrics.getOperationCounts().get("addAppToList"));
+        assertEquals(Long.valueOf(1), metrics.getTransitionCounts().get("Review,ACCEPT,Interview"));
+        assertEquals(Long.valueOf(1), metrics.getFailureCounts().get(UnsupportedOperationException.class.getName()));
+        assertTrue(metrics.getMaxLatencies().get("executeCommand") > 0);
+    }
+
+    /** Tests that nothing is recorded while the metrics are disabled. */
+    @Test
+    void testDisabled() {
+        manager.disableMetrics();
+        assertFalse(metrics.isEnabled());
+        assertEquals(AppManagerMetrics.NOT_TIMED, metrics.start());
+        manager.addAppToList(AppType.NEW, "Summary", "Note");
+        manager.executeCommand(1, new Command(CommandValue.REJECT, null, Resolution.REVCOMPLETED, "Rejected"));
+        assertEquals(0, metrics.getLatencies(Operation.ADD_APP).getCount());
+        assertEquals(0, metrics.getTransitionCount(AppState.REVIEW, CommandValue.REJECT, AppState.CLOSED));
+    }
+
+    /** Tests loads and saves, including a failed load. */
+    @Test
+    void testLoadAndSave() {
+        manager.loadAppsFromFile("test-files/app1.txt");
+        manager.saveAppsToFile("test-files/act_app_review.txt");
+        assertThrows(IllegalArgumentException.class, () -> manager.loadAppsFromFile("test-files/missing.txt"));
+        assertEquals(2, metrics.getLatencies(Operation.LOAD).getCount());
+        assertEquals(1, metrics.getLatencies(Operation.SAVE).getCount());
+        assertEquals(1, metrics.getFailureCount(IllegalArgumentException.class));
+    }
+
+    /** Tests that the metrics are exported and readable through JMX. */
+    @Test
+    void testExportAndJmx() throws Exception {
+        manager.addAppToList(AppType.NEW, "Summary", "Note");
+        manager.executeCommand(1, new Command(CommandValue.STANDBY, null, Resolution.REVCOMPLETED, "Waitlisted"));
+
+        List<String> exported = new ArrayList<>();
+        metrics.export(new MetricsExporter() {
+            @Override
+            public void operation(Operation operation, LatencyHistogram latencies) {
+                exported.add(operation.getOperationName() + "=" + latencies.getCount());
+            }
+
+            @Override
+            public void transition(AppState from, CommandValue command, AppState to, long count) {
+                exported.add(from + "," + command + "," + to + "=" + count);
+            }
+
+            @Override
+            public void failure(String exceptionType, long count) {
+                exported.add(exceptionType + "=" + count);
+            }
+        });
+        assertEquals(List.of("executeCommand=1", "addAppToList=1", "REVIEW,STANDBY,WAITLIST=1"), exported);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(AppManagerMetrics.OBJECT_NAME);
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        assertTrue(server.getAttribute(name, "OperationCounts") instanceof javax.management.openmbean.TabularData);
+        server.invoke(name, "reset", null, null);
+        assertEquals(0, metrics.getLatencies(Operation.ADD_APP).getCount());
+        assertEquals(Map.of(), metrics.getFailureCounts());
+    }
+}